@@ -1,6 +1,9 @@
 package debateComponents;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 
 
 /**
@@ -32,6 +35,12 @@ public class Agent {
 	// This attribute is used to define the behavior of a user towards the issue.
 	public static final double PROBABILITY_TRIES_ACC_OR_REJ_ISSUE = 1.0;
 	
+	// In the older CLIMA'14 runs, "strategyChangeIssue" played and took back every candidate move on the debate's GB, and taking back a move
+	// set the status of the issue of the debate's GB to the status in the agent's own GB (until the next vote). The what-if queries don't do that.
+	// This attribute is true by default, so that the debates give the same results as the older runs (the debate's GB keeps the agent's view
+	// after a search, as before). Set it to false in order to leave the status of the issue of the debate's GB unchanged by the searches.
+	public static boolean LEGACY_TAKEBACK_STATUS = true;
+	
 	///////////////////////////
 	// Non-static attributes //
 	///////////////////////////
@@ -43,7 +52,7 @@ public class Agent {
 	/**
 	 * The topics of expertise of the agent.
 	 */
-	public ArrayList<String> agentExpertise;
+	public TopicSet agentExpertise;
 	/**
 	 * The agent's Gameboard represents his viewpoint over the debate.
 	 */
@@ -96,6 +105,12 @@ public class Agent {
 	public int numberOfMovesForIssue;
 	public int numberOfMovesAgainstIssue;
 	
+	/**
+	 * The index of the agent among the agents of its configuration (0, 1, ..., N-1).
+	 * It's the row of the agent in the impact tables of the Gameboards (see "computeImpacts").
+	 */
+	public int agentIndex;
+	
 	//////////////////////
 	// Static functions //
 	//////////////////////
@@ -157,7 +172,7 @@ public class Agent {
 				Attack currAtt = currAg.agentGB.attacks.get(j);
 				// The polarity of the vote must be "truthful", therefore:
 				boolean isPolarityPositive;
-				if (currAtt.weight > 0) isPolarityPositive = true;
+				if (currAg.agentGB.getWeight(currAtt) > 0) isPolarityPositive = true;
 				else isPolarityPositive = false;
 				merged.playMoveOnGB(currAtt, currAg, isPolarityPositive, true);
 			}
@@ -166,7 +181,7 @@ public class Agent {
 				Support currSupp = currAg.agentGB.supports.get(j);
 				// The polarity of the vote must be "truthful", therefore:
 				boolean isPolarityPositive;
-				if (currSupp.weight > 0) isPolarityPositive = true;
+				if (currAg.agentGB.getWeight(currSupp) > 0) isPolarityPositive = true;
 				else isPolarityPositive = false;
 				merged.playMoveOnGB(currSupp, currAg, isPolarityPositive, true);
 			}
@@ -191,8 +206,9 @@ public class Agent {
 		
 		// Generate the agent's name.
 		agentName = "ag" + num;
+		agentIndex = num;
 		// Generate the topics of expertise of the agent.
-		agentExpertise = Expertise.generateSubsetTopics(MIN_EXP_PER_AGENT, MAX_EXP_PER_AGENT, gb.topics);
+		agentExpertise = Expertise.generateSubsetTopics(MIN_EXP_PER_AGENT, MAX_EXP_PER_AGENT, gb.topics.size());
 		// Generate the agent's GB.
 		agentGB = new Gameboard(gb,0);		
 		// Initialize the agent's set of played arguments.
@@ -203,7 +219,7 @@ public class Agent {
 		playedSupps = new ArrayList<Support>();
 		// Compute the agent's team.
 		// Grounded semantics is used.
-		if (agentGB.computeGrounded().contains(0)) team = "PRO";
+		if (agentGB.isIssueAccepted()) team = "PRO";
 		else team = "CON";
 		// The following attributes have not been used in our CLIMA'14 work.
 		// Nonetheless, they could be useful in an extension of this work.
@@ -236,8 +252,9 @@ public class Agent {
 		
 		// Generate the agent's name.
 		agentName = "ag" + num;
+		agentIndex = num;
 		// Generate the topics of expertise of the agent.
-		agentExpertise = Expertise.generateSubsetTopics(MIN_EXP_PER_AGENT, MAX_EXP_PER_AGENT, type.typeGB.topics);
+		agentExpertise = Expertise.generateSubsetTopics(MIN_EXP_PER_AGENT, MAX_EXP_PER_AGENT, type.typeGB.topics.size());
 		// Generate the agent's GB (according to its type).
 		agentGB = new Gameboard(type);	
 		// Initialize the agent's set of played arguments.
@@ -247,8 +264,8 @@ public class Agent {
 		// Initialize the agent's set of played supports.
 		playedSupps = new ArrayList<Support>();
 		// Compute the agent's team.
-		if (agentGB.evalIssue < MIN_THRESHOLD) team = "CON";
-		else if (agentGB.evalIssue >= MAX_THRESHOLD) team = "PRO";
+		if (agentGB.getEvalIssue() < MIN_THRESHOLD) team = "CON";
+		else if (agentGB.getEvalIssue() >= MAX_THRESHOLD) team = "PRO";
 		
 		if (Math.random() <= PROBABILITY_TRIES_ACC_OR_REJ_ISSUE) triesAcceptOrRejectIssue = true;
 		else triesAcceptOrRejectIssue = false;
@@ -349,7 +366,8 @@ public class Agent {
 	 * Strategy 1 (strategyChangeIssue):
 	 * If the agent is winning, then he will play "pass".
 	 * If the agent is losing, then he will play a move, randomly chosen among all the moves able to change the issue's status.
-	 * TO DO: Check this. Also, rewrite it in a way that we don't call "playMoveOnGB" and "takebackMoveOnGB".
+	 * The effect of every move is computed with "gb.issueStatusIfPlayed", so the Gameboard is not changed while the agent searches
+	 * (except for the status of the issue, when LEGACY_TAKEBACK_STATUS is set, see above).
 	 * Strategy used in the CLIMA'14 work.
 	 * @return
 	 */
@@ -357,6 +375,7 @@ public class Agent {
 		Attack chosenMove = null;
 		ArrayList<Attack> possibleMoves = new ArrayList<Attack>();
 		Attack currAtt;
+		boolean searched = false;
 		if (!isWinning(gb)) {
 			// If the agent is not winning he searches for all his possible moves.
 			System.out.println("Agent " + this.agentName + " is not winning, so...");
@@ -366,17 +385,20 @@ public class Agent {
 					// Check if this is a possible move.
 					// First, find its polarity (users are truthful).
 					boolean polarity;
-					if (currAtt.weight > 0) polarity = true;
+					if (agentGB.getWeight(currAtt) > 0) polarity = true;
 					else polarity = false;
-					// Then, play the move on the GB.
-					gb.playMoveOnGB(currAtt,this,polarity,false);
-					if (isWinning(gb)) {
+					// Then, compute the status the issue would have if the move was played on the GB.
+					if (isWinning(gb.issueStatusIfPlayed(currAtt,this,polarity))) {
 						// If, by playing this move, the status of the issue changes, then this is a possible move.
 						possibleMoves.add(currAtt);
 					}
-					gb.takebackMoveOnGB(currAtt,this);
+					searched = true;
 				}
 			}
+			if (LEGACY_TAKEBACK_STATUS && searched) {
+				// As in the older runs, the last takeback leaves the agent's view of the issue on the debate's GB.
+				gb.overrideStatusIssue(agentGB.getStatusIssue());
+			}
 		}
 		if (!possibleMoves.isEmpty()) {
 			// Randomly choose one move among those in the possibleMoves ArrayList.
@@ -398,9 +420,9 @@ public class Agent {
 	 * @return
 	 */
 	public Attack strategyCutTSet(Gameboard gb, int heuristic) {
-		ArrayList<ArrayList<Attack>> orderedTargetSets = new ArrayList<ArrayList<Attack>>();
-		if (heuristic == 1) orderedTargetSets = gb.targetSets;
-		else if (heuristic == 2) orderedTargetSets = orderTSetsBySize(gb);
+		Iterator<List<Attack>> orderedTargetSets = Collections.<List<Attack>>emptyIterator();
+		if (heuristic == 1) orderedTargetSets = gb.getTargetSets().iterator();
+		else if (heuristic == 2) orderedTargetSets = gb.targetSetIterator();
 		Attack chosenMove = null;
 		ArrayList<Attack> possibleMoves = new ArrayList<Attack>();
 		Attack currTSAtt;
@@ -410,8 +432,8 @@ public class Agent {
 			// The agent is currently losing the debate, so he searches for a move which cuts an attack from a target set.
 			int stoppage = 5000;
 			boolean foundPossibleMove = false;
-			for (int i=0; i<orderedTargetSets.size(); i++) {
-				ArrayList<Attack> currTSet = orderedTargetSets.get(i);
+			while (orderedTargetSets.hasNext()) {
+				List<Attack> currTSet = orderedTargetSets.next();
 				// We will check for possible moves in the currTSet iff one of the 3 following conditions holds:
 				// (1) orderType==1:   In this case, we just want to play in some target set (no matter its size).
 				// (2) currTSet.size()<=stoppage:   In this case, we are in a target set having the same size as the previously checked target set (so we must check it).
@@ -420,12 +442,8 @@ public class Agent {
 					stoppage = currTSet.size();
 					for (int j=0; j<currTSet.size(); j++) {
 						currTSAtt = currTSet.get(j);
-						for (int k=0; k<agentGB.attacks.size(); k++) {
-							if ( (agentGB.attacks.get(k).firstArg == currTSAtt.firstArg) && (agentGB.attacks.get(k).secondArg == currTSAtt.secondArg) ) {
-								currAtt = agentGB.attacks.get(k);
-								break;
-							}
-						}
+						// The same attack, on the agent's GB.
+						currAtt = agentGB.getAttack(currTSAtt);
 						// If the agent has not already played this attack, it may be a possible move.
 						if (!playedAtts.contains(currAtt)) {
 							// It is a possible move iff it can change the sign of the attack's weight.
@@ -461,9 +479,9 @@ public class Agent {
 	 * @return
 	 */
 	public Attack strategyWeakenTSet(Gameboard gb, int heuristic) {
-		ArrayList<ArrayList<Attack>> orderedTargetSets = new ArrayList<ArrayList<Attack>>();
-		if (heuristic == 1) orderedTargetSets = gb.targetSets;
-		else if (heuristic == 2 || heuristic == 3) orderedTargetSets = orderTSetsBySize(gb);
+		Iterator<List<Attack>> orderedTargetSets = Collections.<List<Attack>>emptyIterator();
+		if (heuristic == 1) orderedTargetSets = gb.getTargetSets().iterator();
+		else if (heuristic == 2 || heuristic == 3) orderedTargetSets = gb.targetSetIterator();
 		Attack chosenMove = null;
 		ArrayList<Attack> possibleMoves = new ArrayList<Attack>();
 		Attack currTSAtt;
@@ -473,8 +491,8 @@ public class Agent {
 			// The agent is currently losing the debate, so he searches for a move (other than pass).
 			int stoppage = 5000;
 			boolean foundPossibleMove = false;
-			for (int i=0; i<orderedTargetSets.size(); i++) {
-				ArrayList<Attack> currTSet = orderedTargetSets.get(i);
+			while (orderedTargetSets.hasNext()) {
+				List<Attack> currTSet = orderedTargetSets.next();
 				// We will check for possible moves in the currTSet iff one of the 3 following conditions holds:
 				// (1) orderType==1:   In this case, we just want to play in some target set (no matter its size).
 				// (2) currTSet.size()<=stoppage:   In this case, we are in a target set having the same size as the previously checked target set (so we must check it).
@@ -483,12 +501,8 @@ public class Agent {
 					stoppage = currTSet.size();
 					for (int j=0; j<currTSet.size(); j++) {
 						currTSAtt = currTSet.get(j);
-						for (int k=0; k<agentGB.attacks.size(); k++) {
-							if ( (agentGB.attacks.get(k).firstArg == currTSAtt.firstArg) && (agentGB.attacks.get(k).secondArg == currTSAtt.secondArg) ) {
-								currAtt = agentGB.attacks.get(k);
-								break;
-							}
-						}
+						// The same attack, on the agent's GB.
+						currAtt = agentGB.getAttack(currTSAtt);
 						// If the agent has not already played this attack, it may be a possible move.
 						if (!playedAtts.contains(currAtt)) {
 							int typeOfChange = provokedChangeByVoting(currTSAtt, gb);
@@ -549,17 +563,17 @@ public class Agent {
 	 * @return
 	 */
 	public Attack strategyWeakenReinforceTSet(Gameboard gb, int heuristic) {
-		ArrayList<ArrayList<Attack>> orderedTargetSets = new ArrayList<ArrayList<Attack>>();
-		if (heuristic == 1) orderedTargetSets = gb.targetSets;
-		else if (heuristic == 2 || heuristic == 3) orderedTargetSets = orderTSetsBySize(gb);
+		Iterator<List<Attack>> orderedTargetSets = Collections.<List<Attack>>emptyIterator();
+		if (heuristic == 1) orderedTargetSets = gb.getTargetSets().iterator();
+		else if (heuristic == 2 || heuristic == 3) orderedTargetSets = gb.targetSetIterator();
 		Attack chosenMove = null;
 		ArrayList<Attack> possibleMoves = new ArrayList<Attack>();
 		Attack currTSAtt;
 		Attack currAtt = null;
 		int stoppage = 5000;
 		boolean foundPossibleMove = false;
-		for (int i=0; i<orderedTargetSets.size(); i++) {
-			ArrayList<Attack> currTSet = orderedTargetSets.get(i);
+		while (orderedTargetSets.hasNext()) {
+			List<Attack> currTSet = orderedTargetSets.next();
 			// We will check for possible moves in the currTSet iff one of the 3 following conditions holds:
 			// (1) orderType==1:   In this case, we just want to play in some target set (no matter its size).
 			// (2) currTSet.size()<=stoppage:   In this case, we are in a target set having the same size as the previously checked target set (so we must check it).
@@ -568,12 +582,8 @@ public class Agent {
 				stoppage = currTSet.size();
 				for (int j=0; j<currTSet.size(); j++) {
 					currTSAtt = currTSet.get(j);
-					for (int k=0; k<agentGB.attacks.size(); k++) {
-						if ( (agentGB.attacks.get(k).firstArg == currTSAtt.firstArg) && (agentGB.attacks.get(k).secondArg == currTSAtt.secondArg) ) {
-							currAtt = agentGB.attacks.get(k);
-							break;
-						}
-					}
+					// The same attack, on the agent's GB.
+					currAtt = agentGB.getAttack(currTSAtt);
 					// If the agent has not already played this attack, it may be a possible move.
 					if (!playedAtts.contains(currAtt)) {
 						// The agent can play his move on this attack iff either:
@@ -649,6 +659,10 @@ public class Agent {
 		ArrayList<BinaryRelation> possibleRelations = new ArrayList<BinaryRelation>();
 		ArrayList<Boolean> possiblePolarities = new ArrayList<Boolean>();
 		ArrayList<Double> possibleNewEvals = new ArrayList<Double>();
+		// The arguments which can reach the issue (found in a single pass) let us discard the moves which are surely neutral,
+		// so the issue's new evaluation is only computed for the other moves. This is only a filter: in the worst case
+		// (no move is surely neutral), the issue's new evaluation is still computed once per possible move.
+		NeutralMoveFilter neutralFilter = gb.computeNeutralMoveFilter();
 		
 		///////////////////////////////////////////////////
 		// 1. FIND ALL POSSIBLE MOVES AND EVALUATE THEM. //
@@ -663,19 +677,9 @@ public class Agent {
 			currRel = agentGB.attacks.get(i);
 			
 			// Is this attack already put on the GB by some user? If yes, then the user cannot play on it.
-			boolean alreadyOnGB = false;
-			for (int j=0; j<gb.attacks.size(); j++) {
-				Attack currAtt = gb.attacks.get(j);
-				if (currAtt.firstArg == currRel.firstArg && currAtt.secondArg == currRel.secondArg) {
-					if (currAtt.weight > 0) {
-						alreadyOnGB = true;
-//						System.out.println("Attack already put (TRUE).");
-					} else {
-//						System.out.println("Attack already put (FALSE).");
-					}
-				}
-			}
-			if (currRel.weight > 0) believesRelation = true;
+			Attack gbAtt = gb.getAttack(currRel);
+			boolean alreadyOnGB = (gbAtt != null && gbAtt.getWeight() > 0);
+			if (agentGB.getWeight(currRel) > 0) believesRelation = true;
 			else believesRelation = false; // This attack addition would be a lie.
 			if ( !alreadyOnGB && (believesRelation || (!believesRelation && canStillLie())) ) {
 //				System.out.println("Agent can play attack.");
@@ -684,39 +688,29 @@ public class Agent {
 				// Then, we have 1 possible move here (attack addition).
 				
 				// We must check if this move is "neutral" (not affecting the issue's valuation).
-				double initialIssueEval = gb.evalIssue;
+				double initialIssueEval = gb.getEvalIssue();
 //				System.out.println(" ** initialIssueEval = " + initialIssueEval);
-				// Play the move, in order to compute the issue's new evaluation.
-				gb.playMoveOnGB(currRel, this, true, false);
-				if (initialIssueEval != gb.evalIssue) {
-//					System.out.println("Non-neutral move, as it can make " + gb.evalIssue);
+				// Compute the issue's new evaluation, if the move was played (the GB is not changed).
+				double newIssueEval = gb.isNeutralIfPlayed(neutralFilter, currRel, this, true) ? initialIssueEval : gb.issueEvalIfPlayed(currRel, this, true);
+				if (initialIssueEval != newIssueEval) {
+//					System.out.println("Non-neutral move, as it can make " + newIssueEval);
 					// It's a non-neutral move (relevant to the issue), so we must consider it.
 					possibleRelations.add(currRel);
 					possiblePolarities.add(true);
-					possibleNewEvals.add(gb.evalIssue);
+					possibleNewEvals.add(newIssueEval);
 //					System.out.print("If I play a move on ");
 //					currRel.printRelation(null);
-//					System.out.println(" then issue eval = " + gb.evalIssue);
+//					System.out.println(" then issue eval = " + newIssueEval);
 				}
-				// Now, play the move with inversed polarity (take it back).
-				gb.playMoveOnGB(currRel, this, false, false);
-//				System.out.print("If I take back my move on ");
-//				currRel.printRelation(null);
-//				System.out.println(" then issue eval = " + gb.evalIssue);
 			}
 		}
 		// Then, focus on supports (the reasoning process is the same, so we could try to fusion these 2 for-loops).
 		for (int i=0; i<agentGB.supports.size(); i++) {
 			currRel = agentGB.supports.get(i);
 			// Is this support already put on the GB by some user? If it is, then the user cannot play on it.
-			boolean alreadyOnGB = false;
-			for (int j=0; j<gb.supports.size(); j++) {
-				Support currSupp = gb.supports.get(j);
-				if (currSupp.firstArg == currRel.firstArg && currSupp.secondArg == currRel.secondArg) {
-					if (currSupp.weight > 0) alreadyOnGB = true;
-				}
-			}
-			if (currRel.weight > 0) believesRelation = true;
+			Support gbSupp = gb.getSupport(currRel);
+			boolean alreadyOnGB = (gbSupp != null && gbSupp.getWeight() > 0);
+			if (agentGB.getWeight(currRel) > 0) believesRelation = true;
 			else believesRelation = false; // The support addition would be a lie.
 			if ( !alreadyOnGB && (believesRelation || (!believesRelation && canStillLie())) ) {
 				// If this support hasn't been played by any user AND
@@ -724,23 +718,18 @@ public class Agent {
 				// Then, we have 1 possible move here (support addition).
 				
 				// We must check if this move is "neutral" (not affecting the issue's valuation).
-				double initialIssueEval = gb.evalIssue;
-				// Play the move, in order to compute the issue's new evaluation.
-				gb.playMoveOnGB(currRel, this, true, false);
-				if (initialIssueEval != gb.evalIssue) {
+				double initialIssueEval = gb.getEvalIssue();
+				// Compute the issue's new evaluation, if the move was played (the GB is not changed).
+				double newIssueEval = gb.isNeutralIfPlayed(neutralFilter, currRel, this, true) ? initialIssueEval : gb.issueEvalIfPlayed(currRel, this, true);
+				if (initialIssueEval != newIssueEval) {
 					// It's a non-neutral move (relevant to the issue), so we must consider it.
 					possibleRelations.add(currRel);
 					possiblePolarities.add(true);
-					possibleNewEvals.add(gb.evalIssue);
+					possibleNewEvals.add(newIssueEval);
 //					System.out.print("If I play a move on ");
 //					currRel.printRelation(null);
-//					System.out.println(" then issue eval = " + gb.evalIssue);
-				} 		
-				// Play the move with inversed polarity (take it back).
-				gb.playMoveOnGB(currRel, this, false, false);
-//				System.out.print("If I take back my move on ");
-//				currRel.printRelation(null);
-//				System.out.println(" then issue eval = " + gb.evalIssue);
+//					System.out.println(" then issue eval = " + newIssueEval);
+				}
 			}
 		}
 		
@@ -761,7 +750,7 @@ public class Agent {
 		if (triesAcceptOrRejectIssue) {
 			// Since the user is focused on the issue, he tries to turn its evaluation to 1 or to 0 (the two extreme values for the QUAD evaluation).
 			double wishedValue;
-			if (agentGB.evalIssue >= 0.5) wishedValue = 1.0;
+			if (agentGB.getEvalIssue() >= 0.5) wishedValue = 1.0;
 			else wishedValue = 0.0;
 			// currentBest is a "pointer" used to remember the move which had the best effect (for this user).
 			int currentBestPtr = 0;
@@ -774,14 +763,14 @@ public class Agent {
 					currSmallestDistanceFromWishValue = Math.abs(wishedValue - possibleNewEvals.get(i));
 				}	
 			}
-			if (currSmallestDistanceFromWishValue < Math.abs(wishedValue - gb.evalIssue)) {
+			if (currSmallestDistanceFromWishValue < Math.abs(wishedValue - gb.getEvalIssue())) {
 				// The best move was strictly "positive" for the user (so we'll return this move).
 				moveToPlay = new Move(possibleRelations.get(currentBestPtr), possiblePolarities.get(currentBestPtr));
 				// Update the "played" lists.
 				if (moveToPlay.relationOfMove instanceof Attack) playedAtts.add((Attack)moveToPlay.relationOfMove);
 				else playedSupps.add((Support)moveToPlay.relationOfMove);
 				// Update the lying budget (if needed).
-				if (possibleRelations.get(currentBestPtr).weight <= 0) {
+				if (agentGB.getWeight(possibleRelations.get(currentBestPtr)) <= 0) {
 					System.out.println("This as a lie!");
 					liesMade.add(possibleRelations.get(currentBestPtr));
 				}
@@ -789,7 +778,7 @@ public class Agent {
 				if (wishedValue == 1.0) numberOfMovesForIssue++;
 				else numberOfMovesAgainstIssue++;
 				numberOfMovesPlayed++;
-				effectsOfMovesOnIssue.add(possibleNewEvals.get(currentBestPtr) - gb.evalIssue); // to do: test
+				effectsOfMovesOnIssue.add(possibleNewEvals.get(currentBestPtr) - gb.getEvalIssue()); // to do: test
 				System.out.println("Played a good move.");
 				return moveToPlay;
 			} else {
@@ -798,7 +787,7 @@ public class Agent {
 				// If there's a truthful move, then the agent will check his hidingBudget, and will either play pass (hiding), or it will play that move.
 				// If all moves are lies, then the agent does a (honest) pass.
 				for (int i=0; i<possibleRelations.size(); i++) {
-					if (possibleRelations.get(i).weight > 0) {
+					if (agentGB.getWeight(possibleRelations.get(i)) > 0) {
 						// There's a truthful move.
 						if (numberOfDishonestPassesMade < dishonestPassesBudget) {
 							// If the user is able to hide, then he passes.
@@ -816,7 +805,7 @@ public class Agent {
 							if (wishedValue == 1.0) numberOfMovesAgainstIssue++;
 							else numberOfMovesForIssue++;
 							numberOfMovesPlayed++;
-							effectsOfMovesOnIssue.add(possibleNewEvals.get(currentBestPtr) - gb.evalIssue);
+							effectsOfMovesOnIssue.add(possibleNewEvals.get(currentBestPtr) - gb.getEvalIssue());
 							System.out.println("Played a bad move.");
 							return moveToPlay;
 						}
@@ -1030,13 +1019,8 @@ public class Agent {
 				// Compare the user's played attacks, with the GB of the type. 
 				// # Attacks the user has played, but this type does not agree with (--> lies?)
 				currAtt = playedAtts.get(j);
-				relationIsPosOnTypeGB = false;
-				for (int k=0; k<currType.typeGB.attacks.size(); k++) {
-					if (currAtt.firstArg == currType.typeGB.attacks.get(k).firstArg &&
-							currAtt.secondArg == currType.typeGB.attacks.get(k).secondArg &&
-							currType.typeGB.attacks.get(k).weight > 0)
-						relationIsPosOnTypeGB = true;
-				}
+				Attack typeAtt = currType.typeGB.getAttack(currAtt);
+				relationIsPosOnTypeGB = (typeAtt != null && typeAtt.getWeight() > 0);
 				if (!relationIsPosOnTypeGB) {
 //					System.out.print("Agent has probably lied on ");
 //					System.out.print("Disagreements++ on: ");
@@ -1051,9 +1035,9 @@ public class Agent {
 				currAtt = currType.typeGB.attacks.get(j);
 				// Compare the GB of the type, with the GB of the debate.
 				// Focus on attacks which this type has (weight>0), and this agent has not played (the played ones were previously checked).
-				if (currAtt.weight > 0 && !existsAttackInList(currAtt, this.playedAtts)) {
+				if (currAtt.getWeight() > 0 && !existsAttackInList(currAtt, this.playedAtts)) {
 					// Check if no other agent has played the currAtt (weight<=0 on the gb). (--> hide?)
-					if (!existsAttackSameWeightInList(currAtt, gb.attacks)) {
+					if (!hasSameWeightSign(currAtt, gb.getAttack(currAtt))) {
 //						System.out.print("Agent has probably hidden ");
 //						System.out.print("Disagreements++ on: ");
 //						currAtt.printRelation(null);
@@ -1069,12 +1053,8 @@ public class Agent {
 			for (int j=0; j<playedSupps.size(); j++) {
 				// # Supports the user has played, but this type does not agree with (--> lies?)
 				currSupp = playedSupps.get(j);
-				relationIsPosOnTypeGB = false;
-				for (int k=0; k<currType.typeGB.supports.size(); k++) {
-					if (currSupp.firstArg == currType.typeGB.supports.get(k).firstArg && currSupp.secondArg == currType.typeGB.supports.get(k).secondArg &&
-							currType.typeGB.supports.get(k).weight > 0)
-						relationIsPosOnTypeGB = true;
-				}
+				Support typeSupp = currType.typeGB.getSupport(currSupp);
+				relationIsPosOnTypeGB = (typeSupp != null && typeSupp.getWeight() > 0);
 				if (!relationIsPosOnTypeGB) {
 //					System.out.print("Agent has probably lied on ");
 //					System.out.print("Disagreements++ on: ");
@@ -1089,9 +1069,9 @@ public class Agent {
 				currSupp = currType.typeGB.supports.get(j);
 				// Compare the GB of the type, with the GB of the debate.
 				// Focus on supports which this type has (weight>0), and this agent has not played (the played ones were previously checked).
-				if (currSupp.weight > 0 && !existsSupportInList(currSupp, this.playedSupps)) {
+				if (currSupp.getWeight() > 0 && !existsSupportInList(currSupp, this.playedSupps)) {
 					// Check if no other agent has played the currSupp (weight<=0 on the gb). (--> hide?)
-					if (!existsSupportSameWeightInList(currSupp, gb.supports)) {
+					if (!hasSameWeightSign(currSupp, gb.getSupport(currSupp))) {
 //						System.out.print("Agent has probably hidden ");
 //						System.out.print("Disagreements++ on: ");
 //						currSupp.printRelation(null);
@@ -1125,27 +1105,17 @@ public class Agent {
 	
 	/**
 	 * This method returns an ArrayList with all the target sets of the Gameboard, ordered from the smallest to the biggest.
+	 * Gameboard.getTargetSets() already generates the target sets by increasing size, so there is nothing to reorder.
+	 * The target sets are copied (those of the Gameboard are unmodifiable).
 	 * Method used in the CLIMA'14 work.
 	 * @param gb
 	 * @return
 	 */
 	public ArrayList<ArrayList<Attack>> orderTSetsBySize(Gameboard gb) {
+		List<List<Attack>> tsets = gb.getTargetSets();
 		ArrayList<ArrayList<Attack>> orderedTSets = new ArrayList<ArrayList<Attack>>();
-		if (!gb.targetSets.isEmpty()) {
-			int smallest = gb.targetSets.get(0).size();
-			int biggest = gb.targetSets.get(0).size();
-			ArrayList<Attack> currTSet;
-			for (int i=0; i<gb.targetSets.size(); i++) {
-				currTSet = gb.targetSets.get(i);
-				if (currTSet.size() < smallest) smallest = currTSet.size();	
-				if (currTSet.size() > biggest) biggest = currTSet.size();
-			}
-			for (int currSize=smallest; currSize<=biggest; currSize++) {
-				for (int i=0; i<gb.targetSets.size(); i++) {
-					currTSet = gb.targetSets.get(i);
-					if (currTSet.size() == currSize) orderedTSets.add(currTSet);
-				}
-			}
+		for (int i=0; i<tsets.size(); i++) {
+			orderedTSets.add(new ArrayList<Attack>(tsets.get(i)));
 		}
 		return orderedTSets;
 	}
@@ -1199,7 +1169,14 @@ public class Agent {
 	 * @return
 	 */
 	public boolean isWinning(Gameboard gb) {
-		return ( (gb.statusIssue && team.equals("PRO")) || (!gb.statusIssue && team.equals("CON")) );
+		return isWinning(gb.getStatusIssue());
+	}
+	
+	/**
+	 * This function returns true iff the agent would be winning, if the status of the issue was "statusIssue".
+	 */
+	public boolean isWinning(boolean statusIssue) {
+		return ( (statusIssue && team.equals("PRO")) || (!statusIssue && team.equals("CON")) );
 	}
 	
 	/**
@@ -1212,33 +1189,17 @@ public class Agent {
 	 * @return
 	 */
 	public int provokedChangeByVoting(Attack att, Gameboard gb) {
-		Attack agentAtt = null;
-		for (int i=0; i<agentGB.attacks.size(); i++) {
-			if ( (agentGB.attacks.get(i).firstArg == att.firstArg) && (agentGB.attacks.get(i).secondArg == att.secondArg) ) {
-				agentAtt = agentGB.attacks.get(i);
-				break;
-			}
-		}
-		Attack gbAtt = null;
-		for (int i=0; i<gb.attacks.size(); i++) {
-			if ( (gb.attacks.get(i).firstArg == att.firstArg) && (gb.attacks.get(i).secondArg == att.secondArg) ) {
-				gbAtt = gb.attacks.get(i);
-				break;
-			}
-		}
-		if ( (gbAtt.weight > 0 && agentAtt.weight > 0) || (gbAtt.weight <= 0 && agentAtt.weight <= 0) ) {
+		// The same attack, on the agent's GB and on the debate's GB.
+		double agentWeight = agentGB.getWeight(att);
+		Attack gbAtt = gb.getAttack(att);
+		if ( (gbAtt.getWeight() > 0 && agentWeight > 0) || (gbAtt.getWeight() <= 0 && agentWeight <= 0) ) {
 			// The agent's vote would reinforce the attack's weight (or, at least, it would provoke no change).
 			return 1;
 		} else {
 			// gbAtt.weight and agentAtt.weight have opposite signs, therefore the agent's vote would
 			// either weaken, or change the sign of the attack's weight (or, at least, it would provoke no change).
-			int effect = 0;
-			for (int i=0; i<agentExpertise.size(); i++) {
-				if (gbAtt.topicsOfRel.contains(agentExpertise.get(i))) {
-					effect++;
-				}
-			}
-			if ( (gbAtt.weight > 0 && effect >= gbAtt.weight) || (gbAtt.weight <= 0 && effect > Math.abs(gbAtt.weight)) ) {
+			int effect = gb.getImpact(this, gbAtt);
+			if ( (gbAtt.getWeight() > 0 && effect >= gbAtt.getWeight()) || (gbAtt.getWeight() <= 0 && effect > Math.abs(gbAtt.getWeight())) ) {
 				// The agent's vote would "change the sign" of the attack's weight.
 				return -1;
 			} else {
@@ -1249,6 +1210,34 @@ public class Agent {
 		}
 	}
 	
+	/**
+	 * This method computes the impact of the agent's votes on every relation of the Gameboard "gb": the number of the relation's topics
+	 * on which the agent is an expert. The impacts are kept in the row "agentIndex" of the impact tables of "gb" (see Gameboard.attackImpacts).
+	 * They're computed once, when the configuration is created (for the debate's Gameboard), since neither the agent's expertise
+	 * nor the topics of the relations change during a debate. The impacts on the agent's Gameboard (an overlay of the debate's, see Gameboard.isOverlay)
+	 * are not kept: they're counted from the topics of its arguments when they're needed (see Gameboard.getImpact).
+	 * (The arguments of every Gameboard draw their own topics, so the same relation may have different topics on different Gameboards).
+	 */
+	public void computeImpacts(Gameboard gb) {
+		int[] attImpacts = new int[gb.attacks.size()];
+		for (int i=0; i<gb.attacks.size(); i++) {
+			attImpacts[i] = gb.countExpertTopics(agentExpertise, gb.attacks.get(i));
+		}
+		int[] suppImpacts = new int[gb.supports.size()];
+		for (int i=0; i<gb.supports.size(); i++) {
+			suppImpacts[i] = gb.countExpertTopics(agentExpertise, gb.supports.get(i));
+		}
+		gb.setImpacts(agentIndex, attImpacts, suppImpacts);
+	}
+	
+	/**
+	 * Returns the impact of a vote of the agent on the relation "rel" (of any Gameboard), as seen on the agent's Gameboard (see Gameboard.getImpact):
+	 * the agent votes on the relations of its own Gameboard, with the topics it sees on them.
+	 */
+	public int getImpact(BinaryRelation rel) {
+		return agentGB.getImpact(this, rel);
+	}
+	
 	/**
 	 * Returns true (resp. false) if the agent can still (resp. cannot anymore) lie.
 	 * Method used in the lying & hiding work.
@@ -1288,6 +1277,14 @@ public class Agent {
 		return exists;
 	}
 	
+	/**
+	 * Returns true iff the relation "other" exists (it's not null), and its weight has the same sign as the weight of "rel".
+	 * It's used with the relation of another Gameboard which has the same arguments as "rel" (see Gameboard.getAttack).
+	 */
+	private static boolean hasSameWeightSign(BinaryRelation rel, BinaryRelation other) {
+		return (other != null) && ((other.getWeight() > 0 && rel.getWeight() > 0) || (other.getWeight() <= 0 && rel.getWeight() <= 0));
+	}
+	
 	/**
 	 * Returns true (resp. false) if the Attack "att" is (resp. isn't) found in the ArrayList "list",
 	 * and its weight has the same sign.
@@ -1300,7 +1297,7 @@ public class Agent {
 			currAtt = list.get(i);
 			if (att.firstArg == currAtt.firstArg && att.secondArg == currAtt.secondArg) {
 				// Do the attacks have the same sign of weight?
-				if ((currAtt.weight > 0 && att.weight > 0) || (currAtt.weight <= 0 && att.weight <= 0))
+				if ((currAtt.getWeight() > 0 && att.getWeight() > 0) || (currAtt.getWeight() <= 0 && att.getWeight() <= 0))
 					exists = true;
 			}
 		}
@@ -1319,7 +1316,7 @@ public class Agent {
 			currSupp = list.get(i);
 			if (supp.firstArg == currSupp.firstArg && supp.secondArg == currSupp.secondArg) {
 				// Do the supports have the same sign of weight?
-				if ((currSupp.weight > 0 && supp.weight > 0) || (currSupp.weight <= 0 && supp.weight <= 0))
+				if ((currSupp.getWeight() > 0 && supp.getWeight() > 0) || (currSupp.getWeight() <= 0 && supp.getWeight() <= 0))
 					exists = true;			}
 		}
 		return exists;
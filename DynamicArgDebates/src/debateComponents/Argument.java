@@ -41,11 +41,16 @@ public class Argument {
 	/**
 	 * The topics that the argument refers to.
 	 */
-	public ArrayList<String> topicsOfArg;
+	public TopicSet topicsOfArg;
 	/**
 	 * The numerical evaluation of an argument. We'll assume that a non-evaluated argument has an evaluation of -10, by default.
+	 * Like the weights of the relations, once the index of the Gameboard is built (see Gameboard.getRelationIndex), the evaluation is
+	 * the cell "argID" of the array "evals", which is the array of the evaluations of all the arguments of the Gameboard.
+	 * Before, "evals" is null, and the evaluation is kept in "unboundEval".
+	 * The Gameboards of the agents share the Argument objects of their reference (see Gameboard.isOverlay): the evaluation is the one on the reference.
 	 */
-	public double eval;
+	private double unboundEval;
+	private double[] evals;
 //	// The following two attributes indicate how many moves have been played (in a debate, by an agent) for/against this argument.  
 //	public int numberOfMovesFor;
 //	public int numberOfMovesAgainst;
@@ -77,14 +82,23 @@ public class Argument {
 			double random = Math.random();
 			if (random < 0.0) {
 				// There's a 0% probability that the new argument is "fixed".
-				args.add(new Argument(i, 10000, topics));
+				args.add(new Argument(i, 10000, topics.size()));
 			} else {
 				// There's a 100% probability that the new argument is "addable".
-				args.add(new Argument(i, 0, topics));
+				args.add(new Argument(i, 0, topics.size()));
 			}
 		}
 	}
 	
+	/**
+	 * Returns the topics of a new argument, chosen among the first "numTopics" topics.
+	 * The Gameboards of the agents, which share the Argument objects of their reference, draw the topics of their arguments with it
+	 * (see Gameboard, Constructors 2/4 and 3/4).
+	 */
+	static TopicSet generateTopics(int numTopics) {
+		return Expertise.generateSubsetTopics(MIN_TOPICS_PER_ARG, MAX_TOPICS_PER_ARG, numTopics);
+	}
+	
 	
 	////////////////////////
 	// Non-static methods //
@@ -93,12 +107,30 @@ public class Argument {
 	/**
 	 * Constructor (1/1).
 	 * Creates an argument. By default its weight is 0 (it's an addable argument).
+	 * Its topics are chosen among the first "numTopics" topics.
 	 */
-	public Argument(int id, double w, ArrayList<String> topics) {
+	public Argument(int id, double w, int numTopics) {
 		argID = id;
 		weight = w;
-		eval = -10;
-		topicsOfArg = Expertise.generateSubsetTopics(MIN_TOPICS_PER_ARG, MAX_TOPICS_PER_ARG, topics);
+		unboundEval = -10;
+		evals = null;
+		topicsOfArg = generateTopics(numTopics);
+	}
+	
+	/**
+	 * Returns the numerical evaluation of the argument.
+	 * The evaluations of a Gameboard's arguments are computed when the evaluation of its issue is read (see Gameboard.getEvalIssue).
+	 */
+	public double getEval() {
+		return (evals == null) ? unboundEval : evals[argID];
+	}
+	
+	/**
+	 * Moves the evaluation of the argument into the cell "argID" of the array "newEvals" (see Gameboard.getRelationIndex).
+	 */
+	void bindEval(double[] newEvals) {
+		newEvals[argID] = getEval();
+		evals = newEvals;
 	}
 	
 	/**
@@ -1,5 +1,4 @@
 package debateComponents;
-import java.util.ArrayList;
 
 
 /**
@@ -9,8 +8,8 @@ import java.util.ArrayList;
  */
 public class Attack extends BinaryRelation {
 
-	public Attack(int first, int second, double w, ArrayList<Argument> args) {
-		super(first, second, w, args);
+	public Attack(int first, int second, double w) {
+		super(first, second, w);
 	}
 	
 }
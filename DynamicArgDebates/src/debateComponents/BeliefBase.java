@@ -0,0 +1,93 @@
+package debateComponents;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * This class contains a snapshot of a Gameboard (the reference), which is shared by the Gameboards overlaying it (the Gameboards of the agents,
+ * see Gameboard.isOverlay): its arguments, relations and topics, the index of its topology, and the weights of its arguments and relations
+ * when the snapshot was taken. An overlay only keeps the weights and the topics which differ from the snapshot (see WeightDeltas),
+ * so an agent costs its differences with the reference, and not a copy of the debate.
+ * The lists of the arguments and of the relations are those of the reference (they're not copied): the relations of a Gameboard are never
+ * changed once it's created, only their weights. The weights are copied, so the reference can be debated on without changing its overlays.
+ * The same snapshot is shared by all the overlays created while the weights of the reference don't change (see Gameboard.getBeliefBase).
+ * Class used in the CLIMA'14 and EUMAS'15 work.
+ */
+public class BeliefBase {
+
+	///////////////////////////
+	// Non-static attributes //
+	///////////////////////////
+
+	/**
+	 * The arguments, the topics and the relations of the reference.
+	 */
+	final ArrayList<Argument> arguments;
+	final ArrayList<String> topics;
+	final ArrayList<Attack> attacks;
+	final ArrayList<Support> supports;
+	/**
+	 * The attacks whose weight is not 10000 in the snapshot (the modifiable attacks of the Gameboards of the CLIMA'14 agents).
+	 */
+	final ArrayList<Attack> modAttacks;
+	/**
+	 * The index of the reference when the snapshot was taken (the overlays only use its topology).
+	 */
+	final RelationIndex index;
+	// The weights of the arguments, attacks and supports of the reference, indexed by their positions.
+	final double[] argWeight;
+	final double[] attWeight;
+	final double[] suppWeight;
+	/**
+	 * The topics of every argument (indexed by its argID) on the overlays: the topics drawn by the first overlay (see Gameboard.drawArgTopics).
+	 * The other overlays keep the topics they draw only if they're different (with one topic per argument drawn among the topics
+	 * of the reference's argument, they never are), so the topics are shared instead of being kept by every agent.
+	 */
+	final TopicSet[] replicaTopics;
+
+
+	////////////////////////
+	// Non-static methods //
+	////////////////////////
+
+	/**
+	 * Constructor (1/1).
+	 * Takes the snapshot of the Gameboard "ref".
+	 */
+	BeliefBase(Gameboard ref) {
+		arguments = ref.arguments;
+		topics = ref.topics;
+		attacks = ref.attacks;
+		supports = ref.supports;
+		index = ref.getRelationIndex();
+		argWeight = argWeightsOf(ref);
+		attWeight = index.attWeight.clone();
+		suppWeight = index.suppWeight.clone();
+		modAttacks = new ArrayList<Attack>();
+		for (int i=0; i<attacks.size(); i++) {
+			if (attWeight[i] != 10000) modAttacks.add(attacks.get(i));
+		}
+		replicaTopics = new TopicSet[arguments.size()];
+	}
+
+	/**
+	 * Returns the weights of the arguments of "gb", indexed by their positions.
+	 */
+	private static double[] argWeightsOf(Gameboard gb) {
+		double[] weights = new double[gb.arguments.size()];
+		for (int i=0; i<weights.length; i++) {
+			weights[i] = gb.getArgWeight(i);
+		}
+		return weights;
+	}
+
+	/**
+	 * Returns true iff this is a snapshot of the current state of "ref" (same topology, same weights).
+	 */
+	boolean isSnapshotOf(Gameboard ref) {
+		RelationIndex refIndex = ref.getRelationIndex();
+		return refIndex == index && Arrays.equals(refIndex.attWeight, attWeight) && Arrays.equals(refIndex.suppWeight, suppWeight)
+				&& Arrays.equals(argWeightsOf(ref), argWeight);
+	}
+
+}
@@ -1,7 +1,6 @@
 package debateComponents;
 
 import java.io.PrintWriter;
-import java.util.ArrayList;
 
 /**
  * Both the class Attack and the class Support are children of this class.
@@ -19,26 +18,57 @@ public class BinaryRelation {
 	 * weight > 0 		 : The relation is in the set R^- (it is a removable relation).
 	 * weight == 0 		 : The relation is in the set R^+ (it is an addable relation).
 	 * (In settings where fixed, removable and addable relations are considered, such as in the CLIMA'14 work).
+	 * Once the index of the relation's Gameboard is built (see RelationIndex), the weight is not kept in the object: it's the cell "relID"
+	 * of the array "weights", which is the array of the weights of all the attacks (or supports) of the Gameboard. Before, "weights" is null,
+	 * and the weight is kept in "unboundWeight". So the object is a view over the Gameboard's storage (see "getWeight", "setWeight").
+	 * The Gameboards of the agents share the relation objects of their reference (see Gameboard.isOverlay): the weight of the object is
+	 * the one on the reference, and the weight on an agent's Gameboard is read with Gameboard.getWeight.
 	 */
-	public double weight;
-	public ArrayList<String> topicsOfRel;
+	private double unboundWeight;
+	private double[] weights;
+	/**
+	 * The dense id of the relation: its position in the "attacks" (or "supports") ArrayList of its Gameboard (-1 until it's known).
+	 * The Gameboards of the agent types replicate the relations of the reference Gameboard in the same order, and the Gameboards of the agents
+	 * share them, so a relation has the same id on all of them, and the same relation on another Gameboard is found by an array access
+	 * (see Gameboard.getAttack and Gameboard.getSupport).
+	 * The topics of the relation are those of its two arguments on a Gameboard (see Gameboard.getArgTopics): they're not kept in the object.
+	 */
+	public int relID;
 	
 	
 	/**
 	 * Constructor (1/1).
 	 */
-	public BinaryRelation(int first, int second, double w, ArrayList<Argument> args) {
+	public BinaryRelation(int first, int second, double w) {
+		relID = -1;
 		firstArg = first;
 		secondArg = second;
-		weight = w;
-		topicsOfRel = new ArrayList<String>();
-		// Given the two arguments' sets of topics, the topics of the relation is the (multi-set) union of these sets.
-		for (int i=0; i<args.get(firstArg).topicsOfArg.size(); i++) {
-			topicsOfRel.add(args.get(firstArg).topicsOfArg.get(i));
-		}
-		for (int i=0; i<args.get(secondArg).topicsOfArg.size(); i++) {
-			topicsOfRel.add(args.get(secondArg).topicsOfArg.get(i));
-		}
+		unboundWeight = w;
+		weights = null;
+	}
+	
+	/**
+	 * Returns the weight of the relation.
+	 */
+	public double getWeight() {
+		return (weights == null) ? unboundWeight : weights[relID];
+	}
+	
+	/**
+	 * Sets the weight of the relation.
+	 */
+	public void setWeight(double w) {
+		if (weights == null) unboundWeight = w;
+		else weights[relID] = w;
+	}
+	
+	/**
+	 * Moves the weight of the relation into the cell "slot" of the array "newWeights" (see RelationIndex): "slot" becomes its id.
+	 */
+	void bindWeight(double[] newWeights, int slot) {
+		newWeights[slot] = getWeight();
+		weights = newWeights;
+		relID = slot;
 	}
 	
 	/**
@@ -47,19 +77,20 @@ public class BinaryRelation {
 	 * Method used in the CLIMA'14 work.
 	 */
 	public void changeWeightSign() {
+		double weight = getWeight();
 		if (weight >= 10000) {
 			System.err.println("This function must be only called for modifiable relations!");
 		} else if (weight != 0 && weight != 0.5) {
 			// Simply change the sign of the relation's weight.
 			// If the weight was positive (resp. negative), then the relation is "removed" ("inserted").
-			weight = -weight;
+			setWeight(-weight);
 		} else if (weight == 0) {
 			// We must "insert" this relation, but also remember that its weight was 0. 
 			// So, we do the following: we set its new weight to +0.5; this way we'll know that it has to be reset to 0.
-			weight = (float) 0.5;
+			setWeight((float) 0.5);
 		} else {
 			// Here, obligatorily the weight is +0.5, so it must be reset to 0.
-			weight = 0;
+			setWeight(0);
 		}
 	}
 	
@@ -68,9 +99,9 @@ public class BinaryRelation {
 	 */
 	public void printRelation(PrintWriter wr) {
 		if (wr == null) {
-			System.out.print("<(" + firstArg + ", " + secondArg + "), " + weight + ">");
+			System.out.print("<(" + firstArg + ", " + secondArg + "), " + getWeight() + ">");
 		} else {
-			wr.print("<(" + firstArg + ", " + secondArg + "), " + weight + ">");
+			wr.print("<(" + firstArg + ", " + secondArg + "), " + getWeight() + ">");
 		}
 	}
 	
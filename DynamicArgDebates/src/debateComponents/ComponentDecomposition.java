@@ -0,0 +1,260 @@
+package debateComponents;
+
+import java.util.Arrays;
+
+/**
+ * This class contains the decomposition of the graph of a Gameboard's attacks and supports into strongly connected components (SCCs).
+ * Two arguments are in the same component iff each one can reach the other through (present) relations. The components are numbered
+ * in a topological order of the condensation (the graph whose nodes are the components): every relation goes from a component
+ * to the same component, or to a later one. So the semantics can be computed component by component, in that order,
+ * and a change only affects the components which come after (and are reachable from) the changed one.
+ * A component is "cyclic" if it has more than one argument, or if its single argument attacks or supports itself.
+ * The Gameboard is acyclic iff no component is cyclic; on sparse random graphs, most components are singletons.
+ * The components are computed by Tarjan's algorithm, in time O(|Args| + |Relations|); the recursion is replaced by an explicit stack,
+ * so that long chains of arguments cannot overflow the Java stack.
+ * A decomposition may also be restricted to a subset of the arguments (e.g. those downstream of a changed relation), so that an
+ * incremental update only pays for the arguments it visits: the relations which leave the subset are then ignored.
+ * Class used in the CLIMA'14 and EUMAS'15 work.
+ */
+public class ComponentDecomposition {
+
+	///////////////////////////
+	// Non-static attributes //
+	///////////////////////////
+
+	/**
+	 * The decomposed arguments: nodes[i] is the i-th one, and nodePos[nodes[i]] == i. If "nodes" is null, then all the arguments
+	 * are decomposed, and the i-th one is the argument i.
+	 */
+	private final int[] nodes;
+	private final int[] nodePos;
+	/**
+	 * The component of every decomposed argument (indexed by its position in "nodes", i.e. by argID if all the arguments are decomposed).
+	 */
+	final int[] comp;
+	/**
+	 * The number of components.
+	 */
+	final int numComponents;
+	/**
+	 * The arguments (argIDs) of component c are: compArgs[compStart[c]], ..., compArgs[compStart[c+1]-1].
+	 */
+	final int[] compStart;
+	final int[] compArgs;
+	/**
+	 * True iff the component is cyclic (see the class comment).
+	 */
+	final boolean[] cyclic;
+	int numCyclic;
+
+
+	////////////////////
+	// Static methods //
+	////////////////////
+
+	/**
+	 * This method computes the components of the graph whose edges are the attacks and the supports of "index" which are present in
+	 * "attLive" and "suppLive" (indexed by the positions of the relations). If both arrays are null, then all the relations are present
+	 * (whatever their weights): this gives the structure of the Gameboard, e.g. for the acyclicity check of the virtual Gameboard.
+	 */
+	public static ComponentDecomposition compute(RelationIndex index, boolean[] attLive, boolean[] suppLive) {
+		return compute(index, attLive, suppLive, false, null, index.numArgs, null);
+	}
+	
+	/**
+	 * Same as "compute(index, attLive, suppLive)", but only the arguments nodes[0], ..., nodes[numNodes-1] are decomposed
+	 * (the relations which leave them are ignored). "nodePos" must give the position of every one of them in "nodes"
+	 * (its other elements may contain anything). If "nodes" is null, then all the arguments are decomposed.
+	 */
+	public static ComponentDecomposition compute(RelationIndex index, boolean[] attLive, boolean[] suppLive,
+			int[] nodes, int numNodes, int[] nodePos) {
+		return compute(index, attLive, suppLive, false, nodes, numNodes, nodePos);
+	}
+	
+	/**
+	 * This method computes the components of the graph whose edges are the attacks of "index" with a positive weight
+	 * (the supports are ignored), as needed by the grounded semantics (see GroundedLabelling).
+	 * Only the arguments nodes[0], ..., nodes[numNodes-1] are decomposed (see above); if "nodes" is null, then all of them are.
+	 */
+	public static ComponentDecomposition computeAttacks(RelationIndex index, int[] nodes, int numNodes, int[] nodePos) {
+		return compute(index, null, null, true, nodes, numNodes, nodePos);
+	}
+	
+	/**
+	 * Tarjan's algorithm (see the class comment). If "attacksByWeight" is set, then the present relations are the attacks with a positive weight,
+	 * otherwise they're given by "attLive" and "suppLive".
+	 */
+	private static ComponentDecomposition compute(RelationIndex index, boolean[] attLive, boolean[] suppLive, boolean attacksByWeight,
+			int[] nodes, int numNodes, int[] nodePos) {
+		// Here, every array is indexed by the position of the argument in "nodes".
+		// Tarjan's attributes: the visiting order of every argument (or -1), and the smallest visiting order it can reach ("lowLink").
+		int[] visitOrder = new int[numNodes];
+		int[] lowLink = new int[numNodes];
+		for (int a=0; a<numNodes; a++) {
+			visitOrder[a] = -1;
+		}
+		// The stack of the arguments whose component is not known yet.
+		int[] sccStack = new int[numNodes];
+		boolean[] onSccStack = new boolean[numNodes];
+		int sccTop = 0;
+		// The explicit call stack: the arguments being visited, and the next out-going relation of each one
+		// (first the attacks it makes, then the supports it makes).
+		int[] callStack = new int[numNodes];
+		int[] nextEdge = new int[numNodes];
+		int callTop = 0;
+		// The component of every argument, numbered in the order in which Tarjan's algorithm closes them (i.e. the reverse topological order).
+		int[] closedComp = new int[numNodes];
+		int numClosed = 0;
+		boolean[] selfLoop = new boolean[numNodes];
+		int counter = 0;
+		for (int root=0; root<numNodes; root++) {
+			if (visitOrder[root] != -1) continue;
+			visitOrder[root] = lowLink[root] = counter++;
+			sccStack[sccTop++] = root;
+			onSccStack[root] = true;
+			callStack[callTop] = root;
+			nextEdge[callTop] = 0;
+			callTop++;
+			while (callTop > 0) {
+				int currArg = callStack[callTop-1];
+				int arg = (nodes == null) ? currArg : nodes[currArg];
+				int numAttOut = index.attOutStart[arg+1] - index.attOutStart[arg];
+				int numOut = attacksByWeight ? numAttOut : numAttOut + index.suppOutStart[arg+1] - index.suppOutStart[arg];
+				int target = -1;
+				// Find the next present relation made by "currArg", towards a decomposed argument.
+				while (target == -1 && nextEdge[callTop-1] < numOut) {
+					int k = nextEdge[callTop-1]++;
+					int targetArg = -1;
+					if (k < numAttOut) {
+						int currAtt = index.attOutRel[index.attOutStart[arg] + k];
+						if (attacksByWeight ? index.attWeight[currAtt] > 0 : (attLive == null || attLive[currAtt])) targetArg = index.attSecond[currAtt];
+					} else {
+						int currSupp = index.suppOutRel[index.suppOutStart[arg] + k - numAttOut];
+						if (suppLive == null || suppLive[currSupp]) targetArg = index.suppSecond[currSupp];
+					}
+					if (targetArg != -1) target = position(nodes, numNodes, nodePos, targetArg);
+				}
+				if (target != -1) {
+					if (target == currArg) {
+						selfLoop[currArg] = true;
+					} else if (visitOrder[target] == -1) {
+						// Visit the target ("recursive call").
+						visitOrder[target] = lowLink[target] = counter++;
+						sccStack[sccTop++] = target;
+						onSccStack[target] = true;
+						callStack[callTop] = target;
+						nextEdge[callTop] = 0;
+						callTop++;
+					} else if (onSccStack[target]) {
+						lowLink[currArg] = Math.min(lowLink[currArg], visitOrder[target]);
+					}
+					continue;
+				}
+				// All the relations of "currArg" have been visited ("return").
+				callTop--;
+				if (lowLink[currArg] == visitOrder[currArg]) {
+					// "currArg" is the root of a component: pop it.
+					int member;
+					do {
+						member = sccStack[--sccTop];
+						onSccStack[member] = false;
+						closedComp[member] = numClosed;
+					} while (member != currArg);
+					numClosed++;
+				}
+				if (callTop > 0) {
+					int parent = callStack[callTop-1];
+					lowLink[parent] = Math.min(lowLink[parent], lowLink[currArg]);
+				}
+			}
+		}
+		// Renumber the components in topological order, and group the arguments of every component.
+		ComponentDecomposition scc = new ComponentDecomposition(nodes, numNodes, nodePos, numClosed);
+		for (int a=0; a<numNodes; a++) {
+			scc.comp[a] = numClosed - 1 - closedComp[a];
+			scc.compStart[scc.comp[a] + 1]++;
+		}
+		for (int c=0; c<numClosed; c++) {
+			scc.compStart[c+1] += scc.compStart[c];
+		}
+		int[] next = new int[numClosed];
+		for (int c=0; c<numClosed; c++) {
+			next[c] = scc.compStart[c];
+		}
+		for (int a=0; a<numNodes; a++) {
+			int c = scc.comp[a];
+			scc.compArgs[next[c]++] = (nodes == null) ? a : nodes[a];
+			if (selfLoop[a] || (scc.compStart[c+1] - scc.compStart[c] > 1)) {
+				if (!scc.cyclic[c]) scc.numCyclic++;
+				scc.cyclic[c] = true;
+			}
+		}
+		if (nodes != null) {
+			// Keep the arguments of every component in increasing order, as in a decomposition of all the arguments
+			// (so that the cyclic components are iterated in the same order).
+			for (int c=0; c<numClosed; c++) {
+				Arrays.sort(scc.compArgs, scc.compStart[c], scc.compStart[c+1]);
+			}
+		}
+		return scc;
+	}
+	
+	/**
+	 * Returns the position of the argument "argID" in "nodes", or -1 if it's not decomposed (see "compute").
+	 */
+	private static int position(int[] nodes, int numNodes, int[] nodePos, int argID) {
+		if (nodes == null) return argID;
+		int pos = nodePos[argID];
+		return (pos >= 0 && pos < numNodes && nodes[pos] == argID) ? pos : -1;
+	}
+
+
+	////////////////////////
+	// Non-static methods //
+	////////////////////////
+
+	/**
+	 * Constructor (1/1).
+	 * Creates a decomposition of the "numNodes" arguments of "nodes" (see "compute") into "numComponents" (empty) components.
+	 */
+	ComponentDecomposition(int[] nodes, int numNodes, int[] nodePos, int numComponents) {
+		this.nodes = nodes;
+		this.nodePos = nodePos;
+		this.numComponents = numComponents;
+		comp = new int[numNodes];
+		compStart = new int[numComponents + 1];
+		compArgs = new int[numNodes];
+		cyclic = new boolean[numComponents];
+		numCyclic = 0;
+	}
+
+	/**
+	 * Returns the component of the argument "argID", or -1 if it's not decomposed.
+	 */
+	public int getComponent(int argID) {
+		int pos = position(nodes, comp.length, nodePos, argID);
+		return (pos == -1) ? -1 : comp[pos];
+	}
+
+	/**
+	 * Returns the number of components.
+	 */
+	public int size() {
+		return numComponents;
+	}
+
+	/**
+	 * Returns true iff the component "c" is cyclic.
+	 */
+	public boolean isCyclic(int c) {
+		return cyclic[c];
+	}
+
+	/**
+	 * Returns true iff the graph has no cycle (i.e. no component is cyclic).
+	 */
+	public boolean isAcyclic() {
+		return numCyclic == 0;
+	}
+
+}
@@ -85,7 +85,7 @@ public class Configuration {
 			for (int i=0; i<argList.size(); i++) {
 				System.out.print("top(" + argList.get(i).argID + ") = " + "{ ");
 				for (int j=0; j<argList.get(i).topicsOfArg.size(); j++) {
-					System.out.print(argList.get(i).topicsOfArg.get(j) + " ");
+					System.out.print(Expertise.topicName(argList.get(i).topicsOfArg.get(j)) + " ");
 				}
 				System.out.println("}");
 			}
@@ -101,7 +101,7 @@ public class Configuration {
 			for (int i=0; i<gb.arguments.size(); i++) {
 				wr.print("top(" + i + ") = " + "{ ");
 				for (int j=0; j<argList.get(i).topicsOfArg.size(); j++) {
-					wr.print(argList.get(i).topicsOfArg.get(j) + " ");
+					wr.print(Expertise.topicName(argList.get(i).topicsOfArg.get(j)) + " ");
 				}
 				wr.println("}");
 			}
@@ -121,14 +121,14 @@ public class Configuration {
 				// Print the agents' expertise.
 				System.out.print("Agent " + currAg.agentName + " is expert in: { ");
 				for (int j=0; j<currAg.agentExpertise.size(); j++) {
-					System.out.print(currAg.agentExpertise.get(j) + " "); 
+					System.out.print(Expertise.topicName(currAg.agentExpertise.get(j)) + " "); 
 				}
 				System.out.println("}");
 				// Print the agents' attacks.
 				System.out.println("Agent " + currAg.agentName + " has the following attacks:");
 				for(int j=0; j<currAg.agentGB.attacks.size(); j++) {
 					Attack currAtt = currAg.agentGB.attacks.get(j);
-					System.out.println("(" + currAtt.firstArg + ", " + currAtt.secondArg + ") is of type " + currAtt.weight);
+					System.out.println("(" + currAtt.firstArg + ", " + currAtt.secondArg + ") is of type " + currAg.agentGB.getWeight(currAtt));
 				}
 				// Print the agent's played attacks.
 				System.out.println("Agent " + currAg.agentName + " has already played on the following attacks:");
@@ -148,14 +148,14 @@ public class Configuration {
 				// Print the agents' expertise.
 				wr.print("Agent " + currAg.agentName + " is expert in: { ");
 				for (int j=0; j<currAg.agentExpertise.size(); j++) {
-					wr.print(currAg.agentExpertise.get(j) + " "); 
+					wr.print(Expertise.topicName(currAg.agentExpertise.get(j)) + " "); 
 				}
 				wr.println("}");
 				// Print the agents' attacks.
 				wr.println("Agent " + currAg.agentName + " has the following attacks:");
 				for(int j=0; j<currAg.agentGB.attacks.size(); j++) {
 					Attack currAtt = currAg.agentGB.attacks.get(j);
-					wr.println("(" + currAtt.firstArg + ", " + currAtt.secondArg + ") is of type " + currAtt.weight);
+					wr.println("(" + currAtt.firstArg + ", " + currAtt.secondArg + ") is of type " + currAg.agentGB.getWeight(currAtt));
 				}
 				// Print the agent's played attacks.
 				wr.println("Agent " + currAg.agentName + " has already played on the following attacks:");
@@ -182,7 +182,6 @@ public class Configuration {
 			gb.printGB(wr);
 			//Print info on the GB's target sets.
 			System.out.println("======================================================");
-			gb.computeTargetSets();
 			gb.printTargetSets(wr);
 			System.out.println("======================================================");
 			System.out.println();
@@ -194,7 +193,6 @@ public class Configuration {
 			gb.printGB(wr);
 			//Print info on the GB's target sets.
 			wr.println("======================================================");
-			gb.computeTargetSets();
 			gb.printTargetSets(wr);
 			wr.println("======================================================");
 			wr.println();
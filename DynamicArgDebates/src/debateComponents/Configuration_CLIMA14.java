@@ -33,12 +33,13 @@ public class Configuration_CLIMA14 extends Configuration {
 			
 			// Second, we generate all the agents.
 			agents = Agent.generateAgents(gb);
-			// And we compute the values of numPRO, numCON.
+			// And we compute the values of numPRO, numCON (and the impact of the agents' votes on the relations of the GB).
 			numPRO = 0;
 			numCON = 0;
 			for (int i=0; i<agents.size(); i++) {
 				if (agents.get(i).team.equals("PRO")) numPRO++;
 				else if (agents.get(i).team.equals("CON")) numCON++;
+				agents.get(i).computeImpacts(gb);
 			}
 			
 			/////////////////////////////////////////////////////////////////////////////////////////////////
@@ -77,12 +78,13 @@ public class Configuration_CLIMA14 extends Configuration {
 			
 			// Second, we generate all the agents.
 			agents = Agent.generateAgents(gb);
-			// And we compute the values of numPRO, numCON.
+			// And we compute the values of numPRO, numCON (and the impact of the agents' votes on the relations of the GB).
 			numPRO = 0;
 			numCON = 0;
 			for (int i=0; i<agents.size(); i++) {
 				if (agents.get(i).team.equals("PRO")) numPRO++;
 				else if (agents.get(i).team.equals("CON")) numCON++;
+				agents.get(i).computeImpacts(gb);
 			}
 			
 			// Validity check: Did we get the wished number of PRO?
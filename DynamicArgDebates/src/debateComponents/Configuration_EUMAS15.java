@@ -27,7 +27,7 @@ public class Configuration_EUMAS15 extends Configuration {
 	 *     We note that a "QUAD" argument evaluation of a system is possible iff that system is acyclic.
 	 * Then, from the generated virtual GB, a number of Agent Types are generated.
 	 * Then, from each Agent Type, a number of Agents are generated. 
-	 * TO DO: Implement the acyclicity check (it's not necessary, as long as isGBTree is always set to "true").
+	 * If the virtual GB must be acyclic, then Gameboards are generated until one has no cycle (see Gameboard.isAcyclic).
 	 */
 	public Configuration_EUMAS15 (boolean isGBTree, boolean isGBDummy, boolean isGBAcyclic) {
 		
@@ -43,8 +43,8 @@ public class Configuration_EUMAS15 extends Configuration {
 			gb = new Gameboard(isGBTree, isGBDummy, 1); // parameter '1': the lying & hiding work.
 			
 			// If isGBAcyclic == true, then we must ensure that the GB has no cycles.
-//			if (isGBAcyclic) validConfig = ... ; // Correctly implement this check (needed when the GB is a graph).
-			validConfig = true; // The easy solution (it's acceptable, as long as we know that this constructor will always be called with isGBTree set to "true").
+			// A "Dummy" GB (with relations in both directions between every pair of arguments) always has cycles, so it's not checked.
+			validConfig = !isGBAcyclic || isGBDummy || gb.isAcyclic();
 		}
 		
 		// Second, we generate all the agent types.
@@ -52,10 +52,11 @@ public class Configuration_EUMAS15 extends Configuration {
 		
 		// Third, we generate all the agents from the types we've got.
 		agents = Agent.generateAgents(agentTypes); 
-		// And we compute the values of numPRO, numCON.
+		// And we compute the values of numPRO, numCON (and the impact of the agents' votes on the relations of the GB).
 		for (int i=0; i<agents.size(); i++) {
 			if (agents.get(i).team.equals("PRO")) numPRO++;
 			else if (agents.get(i).team.equals("CON")) numCON++;
+			agents.get(i).computeImpacts(gb);
 		}
 		
 		// Fourth, we set the maximum number of rounds to be equal to the number of relations on the (virtual) GB.
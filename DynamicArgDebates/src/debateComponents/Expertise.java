@@ -6,7 +6,7 @@ import java.util.ArrayList;
  * This class contains the basic functionality for generating:
  * (1) the topics of the arguments, and
  * (2) the topics of expertise of the agents.
- * It contains only 2 static methods.
+ * The topics are interned to ids (see TopicSet): only their names are Strings.
  * @author dennis
  *
  */
@@ -39,31 +39,38 @@ public class Expertise {
 		}
 		// Generate the topics ("t1", "t2", "t3", etc.) and fill the "topics" list.
 		for (int i=0; i<numTopics; i++) {
-			topics.add("t"+(i+1));
+			topics.add(topicName(i));
 		}
 	}
 	
 	/**
-	 * This function returns a subset of the topics appearing in "topics" (2nd parameter).
+	 * This function returns a subset of the topics "t1", ..., "tN", where N is "numTopics" (3rd parameter).
 	 * The cardinality of the generated subset of topics is randomly set between a "min" and a "max" value, which are passed as parameters.
 	 * It's useful in order to: generate the topics of specific arguments, and generate the expertise of specific agents.
 	 * @return
 	 */
-	public static ArrayList<String> generateSubsetTopics(int min, int max, ArrayList<String> topics) {
+	public static TopicSet generateSubsetTopics(int min, int max, int numTopics) {
 		// The subset of topics will contain "numSubset" topics in total.
 		int numSubset = min + (int) (Math.random() * (max - min + 1));
-		// Attention: we must take the minimum value between "numSubset" and "topics.size()" (because it can happen that numSubset > topics.size()).
-		numSubset = Math.min(numSubset, topics.size());
-		ArrayList<String> subsetTopicsList = new ArrayList<String>();
+		// Attention: we must take the minimum value between "numSubset" and "numTopics" (because it can happen that numSubset > numTopics).
+		numSubset = Math.min(numSubset, numTopics);
+		TopicSet subsetTopics = new TopicSet();
 		while (numSubset > 0) {
-			int chosenTopic = 1 + (int) (Math.random() * (topics.size() - 1 + 1));
-			if (!subsetTopicsList.contains("t" + chosenTopic)) {
-				// If this "chosenTopic" hasn't already been chosen, then add it to the list of topics.
-				subsetTopicsList.add("t" + chosenTopic);
+			int chosenTopic = (int) (Math.random() * numTopics);
+			if (!subsetTopics.contains(chosenTopic)) {
+				// If this "chosenTopic" hasn't already been chosen, then add it to the set of topics.
+				subsetTopics.add(chosenTopic);
 				numSubset--;
 			}
 		}
-		return subsetTopicsList;
+		return subsetTopics;
+	}
+	
+	/**
+	 * Returns the name of the topic whose id is "topic" (the topic with id 0 is "t1", the topic with id 1 is "t2", etc.).
+	 */
+	public static String topicName(int topic) {
+		return "t" + (topic + 1);
 	}
 	
 //	/**
@@ -2,6 +2,9 @@ package debateComponents;
 
 import java.io.PrintWriter;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
 
 /**
  * This class contains the definition of the debate's backbone, the Gameboard (GB).
@@ -19,8 +22,20 @@ public class Gameboard {
 	static int MIN_BRANCHING_FACTOR = 0;
 	static int MAX_BRANCHING_FACTOR = 4;
 	// The number of addable attacks in the system must be limited (otherwise there's danger of computational explosion when computing target sets).
+	// The search of the target sets only branches on the addable attacks which may change the status of the issue (see TargetSetSearch.isRelevant),
+	// so these values can be raised, as long as the number of relevant addable attacks stays moderate.
 	static int MIN_ADDABLE_ATTACKS = 3;
 	static int MAX_ADDABLE_ATTACKS = 3;
+	// If this is true, then after a move only the part of the grounded labelling which may have changed is updated (see "updateGroundedLabelling").
+	// If it's false, then the whole labelling is recomputed after every move.
+	static boolean INCREMENTAL_GROUNDED = true;
+	// If this is true, then after a move only the evaluations which may have changed are updated (see "updateArgEvaluations").
+	// If it's false, then all the arguments are evaluated again after every move.
+	static boolean INCREMENTAL_QUAD = true;
+	// If this is true, then the arguments in (or downstream of) a cycle are also evaluated, by a fixed-point iteration
+	// (see QuadEvaluation.solveCycles). If it's false, they keep an evaluation of -10 (as in the published experiments).
+	// It's public, so that an experiment (or a test) can evaluate the cyclic Gameboards.
+	public static boolean ITERATIVE_QUAD = false;
 	
 	
 	///////////////////////////
@@ -52,16 +67,93 @@ public class Gameboard {
 	ArrayList<Attack> attackMod;
 	/**
 	 * If a binary acceptability semantics is used (eg. the grounded extension), then the value of "statusIssue" is either true (IN), or false (OUT).
+	 * It's read with "getStatusIssue()".
 	 */
-	public boolean statusIssue;
+	private boolean statusIssue;
 	/**
 	 * If a multi-valued acceptability semantics is used (eg. the QUAD evaluation), then the number "evalIssue" indicates how much the issue is accepted.
+	 * It's read with "getEvalIssue()".
 	 */
-	double evalIssue;
+	private double evalIssue;
 	/**
-	 * The target sets for changing the status of the issue (from its current value).
+	 * True iff "statusIssue" (resp. "evalIssue") may be out-of-date, because some relations have appeared or disappeared since it was computed.
+	 * Then it's brought up-to-date when it's first read (see "getStatusIssue", "getEvalIssue"), so that a debate only pays
+	 * for the semantics it actually uses (the CLIMA'14 debates only read "statusIssue", the EUMAS'15 debates only read "evalIssue").
 	 */
-	public ArrayList<ArrayList<Attack>> targetSets;
+	private boolean statusIssueDirty;
+	private boolean evalIssueDirty;
+	// True iff "statusIssue" has been overridden by an agent's view (see "overrideStatusIssue"), until the next change of a weight.
+	private boolean statusIssueOverridden;
+	/**
+	 * The target sets for changing the status of the issue (from its current value), read with "getTargetSets()" (they're unmodifiable).
+	 * They are only materialized by "getTargetSets" (when the whole family is needed); "targetSetIterator" searches them on demand.
+	 */
+	private List<List<Attack>> targetSets;
+	/**
+	 * The adjacency index of the Gameboard (attackers, attacked, supporters and supported arguments of every argument).
+	 * It's built on demand by "getRelationIndex()", and rebuilt whenever the topology of the Gameboard changes.
+	 */
+	RelationIndex relationIndex;
+	/**
+	 * The index of the reference Gameboard, if this Gameboard replicates its relations (the Gameboards of the agent types).
+	 * The index of this Gameboard then shares its topology (see RelationIndex, Constructor 2/3).
+	 */
+	private RelationIndex sharedTopology;
+	/**
+	 * The snapshot of the reference Gameboard, if this Gameboard is an overlay of it (the Gameboards of the agents, see "isOverlay"), or null.
+	 * The arguments, the relations and the topology are those of the snapshot: the Gameboard only keeps the weights which differ from it
+	 * (see WeightDeltas), and the topics of its arguments which differ from those of the other overlays (see BeliefBase.replicaTopics).
+	 */
+	private BeliefBase base;
+	private WeightDeltas argDeltas;
+	private WeightDeltas attDeltas;
+	private WeightDeltas suppDeltas;
+	// The argIDs (sorted) of the arguments whose topics differ from BeliefBase.replicaTopics, and their topics: the first "numTopicDeltas" cells are used.
+	private int[] topicDeltaArgs;
+	private TopicSet[] topicDeltas;
+	private int numTopicDeltas;
+	// The snapshot of this Gameboard, shared by the overlays created on it while its weights don't change (see "getBeliefBase").
+	private BeliefBase snapshot;
+	/**
+	 * The impact of a vote of every agent on every attack (resp. support) of the Gameboard, indexed by the agent's index and by the relation's id
+	 * (see Agent.computeImpacts and Agent.getImpact). The row of an agent is null until its impacts have been computed.
+	 * The overlays have no tables: the impacts on an agent's Gameboard are counted when they're needed (see "getImpact").
+	 */
+	int[][] attackImpacts;
+	int[][] supportImpacts;
+	/**
+	 * The current grounded labelling of the Gameboard (the value of "statusIssue" is read from it).
+	 * It's kept up-to-date by the methods which change the weights of the attacks.
+	 */
+	GroundedLabelling groundedLabelling;
+	/**
+	 * The current QUAD evaluations of the Gameboard's arguments (the "eval" attributes of the arguments are copied from it).
+	 */
+	QuadEvaluation quadEvaluation;
+	// The signature of the configuration for which "targetSets" was computed (see TargetSetSearch.signature), or null.
+	private long[] targetSetsSignature;
+	// The status table of the last search of the target sets (see TargetSetTable), or null.
+	private TargetSetTable targetSetTable;
+	// The target sets of the last configurations met (created on demand, see "getTargetSetCache").
+	private TargetSetCache targetSetCache;
+	// The secondArg of the attacks which have crossed the weight>0 boundary since "groundedLabelling" was last brought up-to-date.
+	private int[] pendingSeeds;
+	private int numPendingSeeds;
+	// The positions of the attacks (resp. supports) which have crossed the weight>0 boundary since "quadEvaluation" was last brought up-to-date.
+	// If there are too many of them ("pendingOverflow"), then all the arguments are evaluated again.
+	private int[] pendingAtts;
+	private int numPendingAtts;
+	private int[] pendingSupps;
+	private int numPendingSupps;
+	private boolean pendingOverflow;
+	// For every attack (indexed by its position), true iff its weight is > 0 (created on demand by "issueStatusIfPlayed", and kept up-to-date
+	// by "relationChanged"). A what-if query flips one entry, and restores it, instead of copying the signs of all the attacks.
+	private boolean[] attackLive;
+	// The number of times the grounded labelling (resp. the QUAD evaluations) has been brought up-to-date, or dropped (see MoveJournal).
+	private long groundedVersion;
+	private long quadVersion;
+	// The journal of the moves played since the open checkpoints (created on demand, see "checkpoint").
+	private MoveJournal journal;
 	
 	
 	/**
@@ -102,7 +194,7 @@ public class Gameboard {
 						// We do not want to create self-attacking arguments.
 						if (i != j) {
 							// We only create addable attacks, with weight = 0.
-							Attack newAtt = new Attack(i,j,0,arguments);
+							Attack newAtt = new Attack(i,j,0);
 							attacks.add(newAtt);
 							attackMod.add(newAtt);
 						}
@@ -124,7 +216,7 @@ public class Gameboard {
 								random = Math.random();
 								if (random < 0.10) {
 									weight = 10000; 	// Create a fixed attack.			
-									Attack newAtt = new Attack(i,j,weight,arguments);
+									Attack newAtt = new Attack(i,j,weight);
 									attacks.add(newAtt);
 								}
 							} 
@@ -135,8 +227,8 @@ public class Gameboard {
 					numAddable = Math.min(numAddable, attacks.size());
 					while (numAddable > 0) {
 						int attToChange = (int) (Math.random() * attacks.size());
-						if (attacks.get(attToChange).weight == 10000) {
-							attacks.get(attToChange).weight = 0;
+						if (attacks.get(attToChange).getWeight() == 10000) {
+							attacks.get(attToChange).setWeight(0);
 							attackMod.add(attacks.get(attToChange));
 							numAddable--;
 						}
@@ -165,7 +257,7 @@ public class Gameboard {
 							if (childToCreate < arguments.size()) {
 								// Generate the weight's attack.
 								int weight = 10000;
-								Attack newAtt = new Attack(childToCreate,currParent,weight,arguments);
+								Attack newAtt = new Attack(childToCreate,currParent,weight);
 								attacks.add(newAtt);
 								// The generated argument may later be attributed some children, so we add it in the parentNodes ArrayList.
 								parentNodes.add(childToCreate);
@@ -181,8 +273,8 @@ public class Gameboard {
 					numAddable = Math.min(numAddable, attacks.size());
 					while (numAddable > 0) {
 						int attToChange = (int) (Math.random() * attacks.size());
-						if (attacks.get(attToChange).weight == 10000) {
-							attacks.get(attToChange).weight = 0;
+						if (attacks.get(attToChange).getWeight() == 10000) {
+							attacks.get(attToChange).setWeight(0);
 							attackMod.add(attacks.get(attToChange));
 							numAddable--;
 						}
@@ -208,10 +300,10 @@ public class Gameboard {
 						// We do not want to create self-attacking (or self-supporting) arguments.
 						if (i != j) {
 							// We only create addable attacks (and supports), with weight == 0.
-							Attack newAtt = new Attack(i,j,0,arguments);
+							Attack newAtt = new Attack(i,j,0);
 							attacks.add(newAtt);
 							attackMod.add(newAtt);
-							Support newSupp = new Support(i,j,0,arguments);
+							Support newSupp = new Support(i,j,0);
 							supports.add(newSupp);
 						}
 					}
@@ -237,12 +329,12 @@ public class Gameboard {
 									if (random < relationDensity/2) {
 										// The relation to create is 50% an attack, and 50% a support.
 										// Create an addable attack.			
-										Attack newAtt = new Attack(i,j,0,arguments);
+										Attack newAtt = new Attack(i,j,0);
 										attacks.add(newAtt);
 										attackMod.add(newAtt);
 									} else {
 										// Create an addable support.			
-										Support newSupp = new Support(i,j,0,arguments);
+										Support newSupp = new Support(i,j,0);
 										supports.add(newSupp);
 									}
 								}
@@ -274,12 +366,12 @@ public class Gameboard {
 								double random = Math.random();
 								if (random < 0.5) {
 									// Generate an addable attack.
-									Attack newAtt = new Attack(childToCreate,currParent,0,arguments);
+									Attack newAtt = new Attack(childToCreate,currParent,0);
 									attacks.add(newAtt);
 									attackMod.add(newAtt);
 								} else {
 									// Generate an addable support.
-									Support newSupp = new Support(childToCreate,currParent,0,arguments);
+									Support newSupp = new Support(childToCreate,currParent,0);
 									supports.add(newSupp);
 								}
 								// The generated argument may later be attributed some children, so we add it in the parentNodes ArrayList.
@@ -294,16 +386,9 @@ public class Gameboard {
 				}
 			}
 		}
-		// In every case, compute the status of the issue.
-		if (computeGrounded().contains(0)) {
-			// We remind that the issue is argument 0.
-			statusIssue = true;
-		} else {
-			statusIssue = false;
-		}
-		// Also, in every case, compute all the arguments' evaluations (and set "evalIssue").
-		computeArgEvaluations();
-		evalIssue = arguments.get(0).eval;
+		// The status and the evaluation of the issue are computed when they are first read (see "getStatusIssue", "getEvalIssue").
+		statusIssueDirty = true;
+		evalIssueDirty = true;
 	}
 	
 	/**
@@ -315,15 +400,6 @@ public class Gameboard {
 	 */
 	public Gameboard(Gameboard refGB, int workType) {
 		
-		arguments = new ArrayList<Argument>();
-		topics = new ArrayList<String>();
-		attacks = new ArrayList<Attack>();
-		supports = new ArrayList<Support>();
-		attackMod = new ArrayList<Attack>();
-
-		// Use a reference to the ArrayList with the topics of refGB (no problem, they won't change anyway).
-		topics = refGB.topics;
-
 		if (workType == 0) {
 			/**
 			 * CLIMA'14.
@@ -331,48 +407,42 @@ public class Gameboard {
 			 * For every argument, attack, and support of "refGB", the constructor replicates it in the new Gameboard, and:
 			 * (1) All the fixed elements remain fixed in the new GB.
 			 * (2) For every addable attack of the old GB: 50% chance it gets weight 0, and 50% chance it gets weight 1 (removable).
+			 * The new Gameboard is an overlay of "refGB" (see "isOverlay"): it only keeps the weights which differ from those of "refGB".
 			 */
+			initOverlay(refGB.getBeliefBase());
+			attackMod = base.modAttacks;
 			// Replicate the arguments.
-			for (int i=0; i<refGB.arguments.size(); i++) {
-				Argument currArg = refGB.arguments.get(i);
-				if (currArg.weight == 10000) {
-					arguments.add(new Argument(currArg.argID, 10000, currArg.topicsOfArg));
-				} else {
+			for (int i=0; i<arguments.size(); i++) {
+				if (base.argWeight[i] != 10000) {
 					double random = Math.random();
 					int newWeight;
 					if (random < 0.5) newWeight = 0;
 					else newWeight = 1; // removable
-					arguments.add(new Argument(currArg.argID, newWeight, currArg.topicsOfArg));
+					setArgWeight(i, newWeight);
 				}
+				drawArgTopics(i, refGB.getArgTopics(i).size());
 			}
 			// Replicate the attacks.
-			for (int i=0; i<refGB.attacks.size(); i++) {
-				Attack currAtt = refGB.attacks.get(i);
-				if (currAtt.weight == 10000) {
-					attacks.add(new Attack(currAtt.firstArg, currAtt.secondArg, 10000, arguments));
-				} else {
+			for (int i=0; i<attacks.size(); i++) {
+				if (base.attWeight[i] != 10000) {
 					double random = Math.random();
 					int newWeight;
 					if (random < 0.5) newWeight = 0;
 					else newWeight = 1; // removable attack
-					Attack newAtt = new Attack(currAtt.firstArg, currAtt.secondArg, newWeight, arguments);
-					attacks.add(newAtt);
-					attackMod.add(newAtt);
+					setAttackWeight(i, newWeight);
 				}
 			}
 			// Replicate the supports.
-			for (int i=0; i<refGB.supports.size(); i++) {
-				Support currSupp = refGB.supports.get(i);
-				if (currSupp.weight == 10000) {
-					supports.add(new Support(currSupp.firstArg, currSupp.secondArg, 10000, arguments));
-				} else {
+			for (int i=0; i<supports.size(); i++) {
+				if (base.suppWeight[i] != 10000) {
 					double random = Math.random();
 					int newWeight;
 					if (random < 0.5) newWeight = 0;
 					else newWeight = 1; // removable support
-					supports.add(new Support(currSupp.firstArg, currSupp.secondArg, newWeight, arguments));
+					setSupportWeight(i, newWeight);
 				}
-			}			
+			}
+			trimOverlay();
 		} else if (workType == 1) {
 			/**
 			 * Lying & hiding work.
@@ -380,6 +450,14 @@ public class Gameboard {
 			 * Every element (argument, attack, and support) of "refGB" is replicated in new Gameboard.
 			 * Every element of the new Gameboard has a 50% chance to get weight 0, and a 50% chance to get weight 1.
 			 */
+			arguments = new ArrayList<Argument>();
+			attacks = new ArrayList<Attack>();
+			supports = new ArrayList<Support>();
+			attackMod = new ArrayList<Attack>();
+			// Use a reference to the ArrayList with the topics of refGB (no problem, they won't change anyway).
+			topics = refGB.topics;
+			// Also share the topology of refGB (the relations are replicated in the same order).
+			sharedTopology = refGB.getRelationIndex();
 			// Replicate the arguments (make them either fixed or addable).
 			for (int i=0; i<refGB.arguments.size(); i++) {
 				double random = Math.random();
@@ -387,7 +465,7 @@ public class Gameboard {
 				if (random < 0.5) newWeight = 0;
 				else newWeight = 1;
 				Argument currArg = refGB.arguments.get(i);
-				arguments.add(new Argument(currArg.argID, newWeight, currArg.topicsOfArg));
+				arguments.add(new Argument(currArg.argID, newWeight, currArg.topicsOfArg.size()));
 			}
 			// Replicate the attacks (make them either fixed or addable).
 			for (int i=0; i<refGB.attacks.size(); i++) {
@@ -396,9 +474,9 @@ public class Gameboard {
 				if (random < 0.5) newWeight = 0;
 				else newWeight = 1;
 				Attack currAtt = refGB.attacks.get(i);
-				Attack newAtt = new Attack(currAtt.firstArg, currAtt.secondArg, newWeight, arguments);
+				Attack newAtt = new Attack(currAtt.firstArg, currAtt.secondArg, newWeight);
 				attacks.add(newAtt);
-				if (newAtt.weight == 0) attackMod.add(newAtt);
+				if (newAtt.getWeight() == 0) attackMod.add(newAtt);
 			}
 			// Replicate the supports (make them either fixed or addable).
 			for (int i=0; i<refGB.supports.size(); i++) {
@@ -407,19 +485,12 @@ public class Gameboard {
 				if (random < 0.5) newWeight = 0;
 				else newWeight = 1;
 				Support currSupp = refGB.supports.get(i);
-				supports.add(new Support(currSupp.firstArg, currSupp.secondArg, newWeight, arguments));
+				supports.add(new Support(currSupp.firstArg, currSupp.secondArg, newWeight));
 			}
 		}
-		// In every case, compute the status of the issue.
-		if (computeGrounded().contains(0)) {
-			// We remind that the issue is argument 0.
-			statusIssue = true;
-		} else {
-			statusIssue = false;
-		}
-		// Compute the arguments' evaluations (and set "evalIssue").
-		computeArgEvaluations();
-		evalIssue = arguments.get(0).eval;
+		// The status and the evaluation of the issue are computed when they are first read (see "getStatusIssue", "getEvalIssue").
+		statusIssueDirty = true;
+		evalIssueDirty = true;
 	}
 	
 	/**
@@ -427,75 +498,51 @@ public class Gameboard {
 	 * It takes an AgentType as its parameter, and based on it (essentially on its Gameboard), it generates a new Gameboard.
 	 * We use this Constructor to generate the Gameboard of an Agent object, who belongs in some AgentType type.
 	 * The generated GB must agree in p% of all the elements in AgentType's GB. 
+	 * The new Gameboard is an overlay of the type's Gameboard (see "isOverlay"): it only keeps the weights which differ from it.
 	 * Constructor used in lying and hiding work.
 	 */
 	public Gameboard(AgentType agType) {
 		// We will be based on the Gameboard of the type (parameter).
 		Gameboard refGB = agType.typeGB;
-		
-		// Instantiate the attributes.
-		arguments = new ArrayList<Argument>();
-		topics = new ArrayList<String>();
-		attacks = new ArrayList<Attack>();
-		supports = new ArrayList<Support>();
-		attackMod = new ArrayList<Attack>();
-		
-		// Use a reference to the ArrayList with the topics of refGB (no problem, they won't change anyway).
-		topics = refGB.topics;
+		initOverlay(refGB.getBeliefBase());
+		attackMod = base.attacks;
 		
 		// Randomly choose the disagreement percentage (useful for arguments, attacks, supports).
 		int disagrPrcntg = AgentType.MIN_DISAGREEMENT_PRCNTG +
 				(int) (Math.random() * (AgentType.MAX_DISAGREEMENT_PRCNTG - AgentType.MIN_DISAGREEMENT_PRCNTG + 1));
 		
-		double newWeight = 0;
 		// Replicate the arguments (weight 0 or 1).
-		for (int i=0; i<refGB.arguments.size(); i++) {
-			Argument currArg = refGB.arguments.get(i);
-			newWeight = currArg.weight;
+		for (int i=0; i<arguments.size(); i++) {
 			// Will we change this argument's weight (from 0 to 1, or from 1 to 0)?
 			if (Math.random() * 100 < disagrPrcntg) {
 				// We'll change the weight.
-				if (currArg.weight == 0) newWeight = 1; 
-				else newWeight = 0;
+				if (base.argWeight[i] == 0) setArgWeight(i, 1); 
+				else setArgWeight(i, 0);
 			}
-			arguments.add(new Argument(currArg.argID, newWeight, currArg.topicsOfArg));
+			drawArgTopics(i, refGB.getArgTopics(i).size());
 		}
 		// Replicate the attacks (weight 0 or 1).
-		for (int i=0; i<refGB.attacks.size(); i++) {
-			Attack currAtt = refGB.attacks.get(i);
-			newWeight = currAtt.weight;
+		for (int i=0; i<attacks.size(); i++) {
 			// Will we change this attack's weight (from 0 to 1, or from 1 to 0)?
 			if (Math.random() * 100 < disagrPrcntg) {
 				// We'll change this attack's weight.
-				if (currAtt.weight == 0) newWeight = 1; 
-				else newWeight = 0;
+				if (base.attWeight[i] == 0) setAttackWeight(i, 1); 
+				else setAttackWeight(i, 0);
 			}
-			Attack newAtt = new Attack(currAtt.firstArg, currAtt.secondArg, newWeight, arguments);
-			attacks.add(newAtt);
-			attackMod.add(newAtt);
 		}
 		// Replicate the supports (weight 0 or 1).
-		for (int i=0; i<refGB.supports.size(); i++) {
-			Support currSupp = refGB.supports.get(i);
-			newWeight = currSupp.weight;
+		for (int i=0; i<supports.size(); i++) {
 			// Will we change this support's weight (from 0 to 1, or from 1 to 0)?
 			if (Math.random() * 100 < disagrPrcntg) {
 				// We'll change this support's weight.
-				if (currSupp.weight == 0) newWeight = 1; 
-				else newWeight = 0;
+				if (base.suppWeight[i] == 0) setSupportWeight(i, 1); 
+				else setSupportWeight(i, 0);
 			}
-			supports.add(new Support(currSupp.firstArg, currSupp.secondArg, newWeight, arguments));
 		}
-		// In every case, compute the status of the issue.
-		if (computeGrounded().contains(0)) {
-			// We remind that the issue is argument 0.
-			statusIssue = true;
-		} else {
-			statusIssue = false;
-		}
-		// Compute the arguments' evaluations (and set "evalIssue").
-		computeArgEvaluations();
-		evalIssue = arguments.get(0).eval;
+		trimOverlay();
+		// The status and the evaluation of the issue are computed when they are first read (see "getStatusIssue", "getEvalIssue").
+		statusIssueDirty = true;
+		evalIssueDirty = true;
 	}
 	
 	/**
@@ -508,44 +555,194 @@ public class Gameboard {
 		attackMod = new ArrayList<Attack>();
 		// Generate the attacks appearing on the Gameboard.
 		Attack att;
-		att = new Attack(2,0,0,arguments);
+		att = new Attack(2,0,0);
 		attacks.add(att);
 		attackMod.add(att);
 	//	att = new Attack(3,0,0,config);
 	//	attacks.add(att);
 	//	attackMod.add(att);
-		att = new Attack(3,2,10000,arguments);
+		att = new Attack(3,2,10000);
 		attacks.add(att);
-		att = new Attack(4,2,10000,arguments);
+		att = new Attack(4,2,10000);
 		attacks.add(att);
-		att = new Attack(5,2,10000,arguments);
+		att = new Attack(5,2,10000);
 		attacks.add(att);
-		att = new Attack(6,3,0,arguments);
+		att = new Attack(6,3,0);
 		attacks.add(att);
 		attackMod.add(att);
-		att = new Attack(7,4,0,arguments);
+		att = new Attack(7,4,0);
 		attacks.add(att);
 		attackMod.add(att);
-		att = new Attack(8,5,0,arguments);
+		att = new Attack(8,5,0);
 		attacks.add(att);
 		attackMod.add(att);
-		att = new Attack(1,0,0,arguments);
+		att = new Attack(1,0,0);
 		attacks.add(att);
 		attackMod.add(att);
-		att = new Attack(10,0,0,arguments);
+		att = new Attack(10,0,0);
 		attacks.add(att);
 		attackMod.add(att);
 		System.out.println("CONSTRUCTING THE ATTACK: ");
 		att.printRelation(null);
-		// Compute the status' issue.
-		if (computeGrounded().contains(0)) {
-			statusIssue = true;
+		// The status and the evaluation of the issue are computed when they are first read (see "getStatusIssue", "getEvalIssue").
+		statusIssueDirty = true;
+		evalIssueDirty = true;
+	}
+	
+
+	/**
+	 * This method makes the Gameboard an overlay of the snapshot "b" (see "isOverlay"): it shares its arguments, relations and topics,
+	 * and all its weights are those of the snapshot (there is no delta yet).
+	 */
+	private void initOverlay(BeliefBase b) {
+		base = b;
+		arguments = b.arguments;
+		topics = b.topics;
+		attacks = b.attacks;
+		supports = b.supports;
+		argDeltas = new WeightDeltas();
+		attDeltas = new WeightDeltas();
+		suppDeltas = new WeightDeltas();
+		topicDeltaArgs = new int[arguments.size()];
+		topicDeltas = new TopicSet[arguments.size()];
+		numTopicDeltas = 0;
+	}
+	
+	/**
+	 * This method draws the topics of the argument "argID" of an overlay, among the first "numTopics" topics (see Argument.generateTopics).
+	 * They are kept only if they differ from the topics drawn by the first overlay of the snapshot (see BeliefBase.replicaTopics).
+	 * The arguments must be drawn by increasing argID.
+	 */
+	private void drawArgTopics(int argID, int numTopics) {
+		TopicSet drawn = Argument.generateTopics(numTopics);
+		if (base.replicaTopics[argID] == null) {
+			base.replicaTopics[argID] = drawn;
+		} else if (!base.replicaTopics[argID].equals(drawn)) {
+			topicDeltaArgs[numTopicDeltas] = argID;
+			topicDeltas[numTopicDeltas] = drawn;
+			numTopicDeltas++;
+		}
+	}
+	
+	/**
+	 * This method releases the unused cells of the deltas of a new overlay (once all its weights and topics have been drawn).
+	 */
+	private void trimOverlay() {
+		argDeltas.trim();
+		attDeltas.trim();
+		suppDeltas.trim();
+		topicDeltaArgs = Arrays.copyOf(topicDeltaArgs, numTopicDeltas);
+		topicDeltas = Arrays.copyOf(topicDeltas, numTopicDeltas);
+	}
+	
+	/**
+	 * Returns true iff the Gameboard is an overlay of a reference Gameboard (the Gameboards of the agents, see Constructors 2/4 and 3/4).
+	 * An overlay shares the Argument, Attack and Support objects of its reference (so "BinaryRelation.getWeight" and "Argument.getEval"
+	 * give their values on the reference), and keeps only the weights which differ from the reference's (see BeliefBase and WeightDeltas):
+	 * its weights are read with "getWeight". Its index, grounded labelling and QUAD evaluations are only built while they're needed
+	 * (see "releaseDenseState"), so an agent only costs its differences with the reference.
+	 */
+	public boolean isOverlay() {
+		return base != null;
+	}
+	
+	/**
+	 * This method returns the snapshot of the Gameboard which its overlays are based on (see BeliefBase).
+	 * It's shared by all the overlays created while the weights of the Gameboard don't change.
+	 */
+	BeliefBase getBeliefBase() {
+		if (snapshot == null || !snapshot.isSnapshotOf(this)) {
+			snapshot = new BeliefBase(this);
+		}
+		return snapshot;
+	}
+	
+	/**
+	 * This method returns the weight, on this Gameboard, of the relation which has the same arguments as "rel" (a relation of any Gameboard),
+	 * or 0 if there is no such relation (the relation is absent).
+	 * The weights of an overlay must be read with it (see "isOverlay").
+	 */
+	public double getWeight(BinaryRelation rel) {
+		if (rel instanceof Attack) {
+			int pos = attackPos(rel);
+			return (pos == -1) ? 0 : attackWeight(pos);
+		}
+		int pos = supportPos(rel);
+		return (pos == -1) ? 0 : supportWeight(pos);
+	}
+	
+	/**
+	 * Returns the weight of the argument "argID" on this Gameboard.
+	 */
+	double getArgWeight(int argID) {
+		return (base == null) ? arguments.get(argID).weight : argDeltas.get(argID, base.argWeight[argID]);
+	}
+	
+	/**
+	 * Returns the weight of the attack at position "pos" in "attacks".
+	 */
+	private double attackWeight(int pos) {
+		return (base == null) ? attacks.get(pos).getWeight() : attDeltas.get(pos, base.attWeight[pos]);
+	}
+	
+	/**
+	 * Returns the weight of the support at position "pos" in "supports".
+	 */
+	private double supportWeight(int pos) {
+		return (base == null) ? supports.get(pos).getWeight() : suppDeltas.get(pos, base.suppWeight[pos]);
+	}
+	
+	/**
+	 * Sets the weight of the argument "argID" (on an overlay, its delta).
+	 */
+	private void setArgWeight(int argID, double weight) {
+		if (base == null) arguments.get(argID).weight = weight;
+		else argDeltas.set(argID, weight, base.argWeight[argID]);
+	}
+	
+	/**
+	 * Sets the weight of the attack at position "pos" (on an overlay, its delta, and its weight in the index if it has been built).
+	 */
+	private void setAttackWeight(int pos, double weight) {
+		if (base == null) {
+			attacks.get(pos).setWeight(weight);
 		} else {
-			statusIssue = false;
+			attDeltas.set(pos, weight, base.attWeight[pos]);
+			if (relationIndex != null) relationIndex.attWeight[pos] = weight;
 		}
-		// Compute the arguments' evaluations (and set "evalIssue").
-		computeArgEvaluations();
-		evalIssue = arguments.get(0).eval;
+	}
+	
+	/**
+	 * Sets the weight of the support at position "pos" (on an overlay, its delta, and its weight in the index if it has been built).
+	 */
+	private void setSupportWeight(int pos, double weight) {
+		if (base == null) {
+			supports.get(pos).setWeight(weight);
+		} else {
+			suppDeltas.set(pos, weight, base.suppWeight[pos]);
+			if (relationIndex != null) relationIndex.suppWeight[pos] = weight;
+		}
+	}
+	
+	/**
+	 * This method drops the index, the grounded labelling and the QUAD evaluations of an overlay, once "statusIssue" or "evalIssue"
+	 * has been brought up-to-date (they're built again, from the deltas, when they're needed). So an agent's Gameboard, whose issue
+	 * is read when the agent is created, doesn't keep a copy of the debate's weights and evaluations.
+	 */
+	private void releaseDenseState() {
+		relationIndex = null;
+		groundedLabelling = null;
+		quadEvaluation = null;
+		attackLive = null;
+		pendingSeeds = null;
+		numPendingSeeds = 0;
+		pendingAtts = null;
+		numPendingAtts = 0;
+		pendingSupps = null;
+		numPendingSupps = 0;
+		pendingOverflow = true;
+		groundedVersion++;
+		quadVersion++;
 	}
 	
 	
@@ -557,39 +754,37 @@ public class Gameboard {
 		// Properly reset the values of every argument, attack, and support.
 		// Fixed elements are reset to weight=10000, while addable elements to weight=0.
 		for (int i=0; i<arguments.size(); i++) {
-			Argument currArg = arguments.get(i);
-			if (currArg.weight >= 10000) {
-				currArg.weight = 10000;
+			if (getArgWeight(i) >= 10000) {
+				setArgWeight(i, 10000);
 			} else {
-				currArg.weight = 0;
+				setArgWeight(i, 0);
 			}
 		}
 		for (int i=0; i<attacks.size(); i++) {
-			Attack currAtt = attacks.get(i);
-			if (currAtt.weight >= 10000) {
-				currAtt.weight = 10000;
+			if (attackWeight(i) >= 10000) {
+				setAttackWeight(i, 10000);
 			} else {
-				currAtt.weight = 0;
+				setAttackWeight(i, 0);
 			}
 		}
 		for (int i=0; i<supports.size(); i++) {
-			Support currSupp = supports.get(i);
-			if (currSupp.weight >= 10000) {
-				currSupp.weight = 10000;
+			if (supportWeight(i) >= 10000) {
+				setSupportWeight(i, 10000);
 			} else {
-				currSupp.weight = 0;
+				setSupportWeight(i, 0);
 			}
 		}
-		// Compute the status' issue.
-		if (computeGrounded().contains(0)) {
-			// We remind that the issue is argument 0.
-			statusIssue = true;
-		} else {
-			statusIssue = false;
-		}
-		// Compute the arguments' evaluations (and set "evalIssue").
-		computeArgEvaluations();
-		evalIssue = arguments.get(0).eval;
+		// The weights have changed, so the grounded labelling and the arguments' evaluations will be recomputed
+		// (when "statusIssue" and "evalIssue" are first read).
+		groundedLabelling = null;
+		attackLive = null;
+		numPendingSeeds = 0;
+		groundedVersion++;
+		pendingOverflow = true;
+		statusIssueDirty = true;
+		evalIssueDirty = true;
+		// A reset cannot be rolled back.
+		if (journal != null) journal.clear();
 	}
 	
 	/**
@@ -606,308 +801,609 @@ public class Gameboard {
 			return;
 		}
 		// Calculate the move's impact, based on the voter's expertise on the relevant topics.
-		double moveImpact = 0;
-		for (int j=0; j<ag.agentExpertise.size(); j++) {
-			if (relation.topicsOfRel.contains(ag.agentExpertise.get(j))) {
-				moveImpact++;
-			}
-		}
+		double moveImpact = computeMoveImpact(relation, ag);
 		// The relation is either an Attack or a Support.
+		// The index gives us the (single) relation of this Gameboard with the same arguments, without scanning all its relations.
 		if (relation instanceof Attack) {
-			Attack currAtt;
-			for (int i=0; i<attacks.size(); i++) {
-				currAtt = attacks.get(i);
-				if (currAtt.firstArg == relation.firstArg && currAtt.secondArg == relation.secondArg) {
-//					// Previous approach (had to be CHANGED, because now AGENTS MAY LIE!!!
-//					// The polarity of the vote is either + or -, according to whether the agent has that attack or not in his system.
-//					if (move.weight>0) {
-//						currAt.weight += moveImpact;
-//						if (verbose) System.out.println("Agent " + ag.agentName + " played <(" + move.firstArg + "," + move.secondArg + "), " + moveImpact + ">");
-//					}
-//					else {
-//						currAt.weight -= moveImpact;
-//						if (verbose) System.out.println("Agent " + ag.agentName + " played <(" + move.firstArg + "," + move.secondArg +  "), " + -moveImpact + ">");
-//					}
-					if (isPolarityPositive) {
-						currAtt.weight += moveImpact;
-						if (verbose) System.out.println("Agent " + ag.agentName + " played the attack <(" + relation.firstArg + "," + relation.secondArg + "), " + moveImpact + ">");
-					} else {
-						// The move's polarity is negative.
-						currAtt.weight -= moveImpact;
-						if (verbose) System.out.println("Agent " + ag.agentName + " played the attack <(" + relation.firstArg + "," + relation.secondArg +  "), " + -moveImpact + ">");
-					}
+			int pos = attackPos(relation);
+			if (pos != -1) {
+				double oldWeight = attackWeight(pos);
+				if (journal != null && journal.isRecording()) journal.record(true, pos, oldWeight);
+				if (isPolarityPositive) {
+					setAttackWeight(pos, oldWeight + moveImpact);
+					if (verbose) System.out.println("Agent " + ag.agentName + " played the attack <(" + relation.firstArg + "," + relation.secondArg + "), " + moveImpact + ">");
+				} else {
+					// The move's polarity is negative.
+					setAttackWeight(pos, oldWeight - moveImpact);
+					if (verbose) System.out.println("Agent " + ag.agentName + " played the attack <(" + relation.firstArg + "," + relation.secondArg +  "), " + -moveImpact + ">");
 				}
+				relationChanged(attacks.get(pos), pos, oldWeight);
 			}
 		} else {
 			// The relation is a support.
-			Support currSupp;
-			for (int i=0; i<supports.size(); i++) {
-				currSupp = supports.get(i);
-				if (currSupp.firstArg == relation.firstArg && currSupp.secondArg == relation.secondArg) {
-					if (isPolarityPositive) {
-						currSupp.weight += moveImpact;
-						if (verbose) System.out.println("Agent " + ag.agentName + " played the support <(" + relation.firstArg + "," + relation.secondArg + "), " + moveImpact + ">");
-					} else {
-						// The move's polarity is negative.
-						currSupp.weight -= moveImpact;
-						if (verbose) System.out.println("Agent " + ag.agentName + " played the support <(" + relation.firstArg + "," + relation.secondArg +  "), " + -moveImpact + ">");
-					}
+			int pos = supportPos(relation);
+			if (pos != -1) {
+				double oldWeight = supportWeight(pos);
+				if (journal != null && journal.isRecording()) journal.record(false, pos, oldWeight);
+				if (isPolarityPositive) {
+					setSupportWeight(pos, oldWeight + moveImpact);
+					if (verbose) System.out.println("Agent " + ag.agentName + " played the support <(" + relation.firstArg + "," + relation.secondArg + "), " + moveImpact + ">");
+				} else {
+					// The move's polarity is negative.
+					setSupportWeight(pos, oldWeight - moveImpact);
+					if (verbose) System.out.println("Agent " + ag.agentName + " played the support <(" + relation.firstArg + "," + relation.secondArg +  "), " + -moveImpact + ">");
 				}
+				relationChanged(supports.get(pos), pos, oldWeight);
 			}
 		}
-		// After every (non-pass) move on the GB, we recalculate the status of the issue.
-		// We remind that the issue is argument 0.
-		statusIssue = (computeGrounded().contains(0));
-//		if (verbose) System.out.println("The issue's status is now " + statusIssue);
-		// Compute the arguments' evaluations (and set "evalIssue").
-		computeArgEvaluations();
-		evalIssue = arguments.get(0).eval;
-		if (verbose) System.out.println("The issue's evaluation is now " + evalIssue);
+		// The status and the evaluation of the issue are brought up-to-date when they are first read (see "relationChanged").
+//		if (verbose) System.out.println("The issue's status is now " + getStatusIssue());
+		if (verbose) System.out.println("The issue's evaluation is now " + getEvalIssue());
 		return;
 	}
 	
 	/**
-	 * This method plays a move, sent by an agent, on the Gameboard (but its weight is the opposite of what it should normally be).
-	 * Possible improvement: In order to prevent confusion and bugs, first amend the method "strategyChangeIssue(gb)" (which is the only method calling this one)
-	 * and then delete this method.
+	 * This method opens a checkpoint: all the moves played on the Gameboard from now on can be undone by "rollback(checkpoint)".
+	 * Checkpoints can be nested (e.g. by a look-ahead strategy which explores several moves in a row); the returned number identifies this one.
+	 * The weight changes are recorded in a journal (see MoveJournal), together with the state of the cached semantics.
 	 */
-	public void takebackMoveOnGB(Attack move, Agent ag) {
-		for (int i=0; i<attacks.size(); i++) {
-			Attack currAt = attacks.get(i);
-			if (currAt.firstArg == move.firstArg && currAt.secondArg == move.secondArg) {
-				// Calculate the move's impact, based on the voter's expertise on the relevant topics.
-				double moveImpact = 0;
-				for (int j=0; j<ag.agentExpertise.size(); j++) {
-					if (move.topicsOfRel.contains(ag.agentExpertise.get(j))) {
-						moveImpact++;
-					}
-				}
-				// The polarity of the vote is either + or -, according to whether the agent has that attack or not in his system.
-				if (move.weight>0) {
-					currAt.weight -= moveImpact;
-//					System.out.println("The played move was <(" + move.firstArg + "," + move.secondArg + "), " + moveImpact + ">");
-				}
-				else {
-					currAt.weight += moveImpact;
-//					System.out.println("The played move was <(" + move.firstArg + "," + move.secondArg +  "), " + -moveImpact + ">");
-				}
-				// After every move on the GB, we recalculate the status of the issue.
-				statusIssue = (ag.agentGB.computeGrounded().contains(0));
-				// Compute the arguments' evaluations (and set "evalIssue").
-				computeArgEvaluations();
-				evalIssue = arguments.get(0).eval;
-				return;
+	public int checkpoint() {
+		if (journal == null) journal = new MoveJournal();
+		int checkpoint = journal.push();
+		journal.groundedVersions[checkpoint] = groundedVersion;
+		journal.numPendingSeeds[checkpoint] = numPendingSeeds;
+		journal.statusIssueDirty[checkpoint] = statusIssueDirty;
+		journal.quadVersions[checkpoint] = quadVersion;
+		journal.numPendingAtts[checkpoint] = numPendingAtts;
+		journal.numPendingSupps[checkpoint] = numPendingSupps;
+		journal.pendingOverflow[checkpoint] = pendingOverflow;
+		journal.evalIssueDirty[checkpoint] = evalIssueDirty;
+		return checkpoint;
+	}
+	
+	/**
+	 * This method undoes all the moves played since the checkpoint "checkpoint" (attacks and supports), in reverse order,
+	 * and closes it (as well as the checkpoints opened after it). Its cost is proportional to the number of moves undone:
+	 * (1) If "statusIssue" (resp. "evalIssue") has not been read since the checkpoint, then the grounded labelling (resp. the QUAD evaluations)
+	 *     has not changed, and its state at the checkpoint is simply restored.
+	 * (2) Otherwise, the restored relations are recorded as changed (see "relationChanged"), so only the part of the labelling (evaluations)
+	 *     which depends on them is recomputed, when it's first read.
+	 */
+	public void rollback(int checkpoint) {
+		if (journal == null || checkpoint >= journal.numCheckpoints) return;
+		for (int i=journal.numEntries-1; i>=journal.checkpointEntries[checkpoint]; i--) {
+			int code = journal.positions[i];
+			BinaryRelation rel = (code >= 0) ? attacks.get(code) : supports.get(-code - 1);
+			int pos = (code >= 0) ? code : (-code - 1);
+			double weight;
+			if (code >= 0) {
+				weight = attackWeight(pos);
+				setAttackWeight(pos, journal.oldWeights[i]);
+			} else {
+				weight = supportWeight(pos);
+				setSupportWeight(pos, journal.oldWeights[i]);
 			}
+			relationChanged(rel, pos, weight);
+		}
+		journal.numEntries = journal.checkpointEntries[checkpoint];
+		if (groundedVersion == journal.groundedVersions[checkpoint]) {
+			numPendingSeeds = journal.numPendingSeeds[checkpoint];
+			statusIssueDirty = journal.statusIssueDirty[checkpoint];
 		}
-	}	
+		if (quadVersion == journal.quadVersions[checkpoint]) {
+			numPendingAtts = journal.numPendingAtts[checkpoint];
+			numPendingSupps = journal.numPendingSupps[checkpoint];
+			pendingOverflow = journal.pendingOverflow[checkpoint];
+			evalIssueDirty = journal.evalIssueDirty[checkpoint];
+		}
+		journal.pop(checkpoint);
+	}
 	
 	/**
-	 * This method computes the grounded extension of a Gameboard.
+	 * This method closes the checkpoint "checkpoint" (as well as the checkpoints opened after it), keeping the moves played since then.
 	 */
-	public ArrayList<Integer> computeGrounded() {
-		// The vector grounded will contain the arguments of the grounded extension.
-		ArrayList<Integer> grounded = new ArrayList<Integer>();
-		// The possiblyGr list contains the arguments which are (i) already in the grounded extension and (ii) 
-		// possibly added in the grounded extension later, during the computation.
-		ArrayList <Integer> possiblyGr = new ArrayList <Integer>();
-		for (int i=0; i<arguments.size(); i++) {
-			possiblyGr.add(i);
+	public void commit(int checkpoint) {
+		if (journal == null || checkpoint >= journal.numCheckpoints) return;
+		journal.pop(checkpoint);
+	}
+	
+	/**
+	 * This method returns the impact of a vote of the agent "ag" on the relation "relation": the number of the relation's topics
+	 * on which the agent is an expert, as seen on the agent's Gameboard (see Agent.getImpact).
+	 */
+	public double computeMoveImpact(BinaryRelation relation, Agent ag) {
+		return ag.getImpact(relation);
+	}
+	
+	/**
+	 * This method returns the impact of a vote of the agent "ag" on the relation of this Gameboard which has the same arguments as "rel"
+	 * (a relation of any Gameboard): the number of the relation's topics on which the agent is an expert.
+	 * It's read in the impact tables of the Gameboard (see "attackImpacts"). If the impacts of the agent on this Gameboard have not been computed
+	 * (see Agent.computeImpacts), or if the relation is not in this Gameboard, then the topics of its arguments on this Gameboard are counted.
+	 */
+	public int getImpact(Agent ag, BinaryRelation rel) {
+		boolean isAttack = (rel instanceof Attack);
+		int pos = isAttack ? attackPos(rel) : supportPos(rel);
+		int[][] impacts = isAttack ? attackImpacts : supportImpacts;
+		if (pos != -1 && impacts != null && ag.agentIndex < impacts.length && impacts[ag.agentIndex] != null && pos < impacts[ag.agentIndex].length) {
+			return impacts[ag.agentIndex][pos];
 		}
-		
-		boolean isGroundedFound = false;
-		ArrayList<Integer> newlyAddedGr = new ArrayList<Integer>();
-		
-		while (!isGroundedFound) {
-			newlyAddedGr.clear();
-			// During this loop, if at least one argument is put in grounded, then the computation hasn't finished yet.
-			isGroundedFound = true;
-			// For all the possiblyGr arguments, find those which must be put in grounded.
-			for (int i=0; i<possiblyGr.size(); i++) {
-				int currArg = possiblyGr.get(i);
-				// Check if the currArg is already in the grounded extension.
-				if (!grounded.contains(currArg)) {
-					boolean addToGrounded = true;
-					// If currArg receives an attack from an argument in possiblyGr, it won't be put in the extension now.
-					for (int j=0; j<attacks.size(); j++) {
-						Attack currAtt = attacks.get(j);
-						if (currAtt.secondArg == currArg && possiblyGr.contains(currAtt.firstArg) && currAtt.weight>0) {
-							addToGrounded = false;
-						}
-					}
-					if (addToGrounded) {
-						// Put currArg in the grounded extension.
-						grounded.add(currArg);
-						//System.out.println("ADDITION " + currArg);
-						newlyAddedGr.add(currArg);
-						isGroundedFound = false;
-					}	
-				}
+		return countExpertTopics(ag.agentExpertise, rel);
+	}
+	
+	/**
+	 * This method returns the number of the topics of "expertise" which appear in the topics of the relation "rel" on this Gameboard
+	 * (the topics of a relation are those of its two arguments). It returns 0 if the arguments of "rel" are not in this Gameboard.
+	 */
+	int countExpertTopics(TopicSet expertise, BinaryRelation rel) {
+		if (rel.firstArg >= arguments.size() || rel.secondArg >= arguments.size()) return 0;
+		return TopicSet.countCommon(expertise, getArgTopics(rel.firstArg), getArgTopics(rel.secondArg));
+	}
+	
+	/**
+	 * This method returns the topics of the argument "argID" on this Gameboard (every Gameboard draws the topics of its own arguments).
+	 * The topics of the arguments of an overlay are its own (see "drawArgTopics"), not those of the shared Argument objects.
+	 */
+	public TopicSet getArgTopics(int argID) {
+		if (base != null) {
+			int i = Arrays.binarySearch(topicDeltaArgs, 0, numTopicDeltas, argID);
+			return (i >= 0) ? topicDeltas[i] : base.replicaTopics[argID];
+		}
+		return arguments.get(argID).topicsOfArg;
+	}
+	
+	/**
+	 * This method sets the impacts of a vote of the agent whose index is "agentIndex" on every attack and support of the Gameboard
+	 * (see "attackImpacts" and "supportImpacts").
+	 */
+	void setImpacts(int agentIndex, int[] attImpacts, int[] suppImpacts) {
+		if (attackImpacts == null || attackImpacts.length <= agentIndex) {
+			int numRows = Math.max(agentIndex + 1, (attackImpacts == null) ? 0 : 2 * attackImpacts.length);
+			attackImpacts = (attackImpacts == null) ? new int[numRows][] : Arrays.copyOf(attackImpacts, numRows);
+			supportImpacts = (supportImpacts == null) ? new int[numRows][] : Arrays.copyOf(supportImpacts, numRows);
+		}
+		attackImpacts[agentIndex] = attImpacts;
+		supportImpacts[agentIndex] = suppImpacts;
+	}
+	
+	/**
+	 * This method returns the evaluation that the issue would have, if the move (relation, polarity) of the agent "ag" was played
+	 * (i.e. the value of "evalIssue" after "playMoveOnGB(relation, ag, isPolarityPositive, false)"), without playing it.
+	 * No weight is changed (so, contrary to playing the move and taking it back, the Gameboard can be used meanwhile by other threads):
+	 * (1) If the move doesn't make the relation's weight cross 0, then no evaluation changes.
+	 * (2) Otherwise, the current evaluations are reused, and only the arguments downstream of the relation are re-evaluated (see QuadEvaluation.evalIfFlipped).
+	 * Method used in the EUMAS'15 work.
+	 */
+	public double issueEvalIfPlayed(BinaryRelation relation, Agent ag, boolean isPolarityPositive) {
+		int[] flip = flipOfMove(relation, ag, isPolarityPositive);
+		double currentEval = getEvalIssue();
+		if (flip == null) return currentEval;
+		if (quadEvaluation == null) computeArgEvaluations();
+		return quadEvaluation.evalIfFlipped(this, flip[0], flip[1], 0);
+	}
+	
+	/**
+	 * This method returns the status that the issue would have, if the move (relation, polarity) of the agent "ag" was played
+	 * (i.e. the value of "statusIssue" after "playMoveOnGB(relation, ag, isPolarityPositive, false)"), without playing it.
+	 * No weight is changed: if the move makes an attack's weight cross 0, then the status is computed on the signs of the attacks
+	 * (see "attackLive"), where the sign of that attack is flipped during the call (see GroundedLabelling.isIssueIn).
+	 * Supports play no role in grounded semantics. Since the signs are shared, the method must not be called by several threads at once.
+	 * Method used in the CLIMA'14 work.
+	 */
+	public boolean issueStatusIfPlayed(BinaryRelation relation, Agent ag, boolean isPolarityPositive) {
+		boolean currentStatus = getStatusIssue();
+		int[] flip = flipOfMove(relation, ag, isPolarityPositive);
+		if (flip == null || flip[0] == -1) return currentStatus;
+		int pos = flip[0];
+		if (attackLive == null || attackLive.length != attacks.size()) {
+			double[] attWeight = getRelationIndex().attWeight;
+			attackLive = new boolean[attWeight.length];
+			for (int i=0; i<attackLive.length; i++) {
+				attackLive[i] = (attWeight[i] > 0);
 			}
-			// Then, find all the arguments which must be removed from the possiblyGr list. 
-			for (int i=0; i<newlyAddedGr.size(); i++) {
-				int currArg = newlyAddedGr.get(i);
-				for (int j=0; j<attacks.size(); j++) {
-					if (attacks.get(j).firstArg==currArg && attacks.get(j).weight>0) {
-						// This argument is attacked by a member of the grounded extension, so it's "OUT".
-						possiblyGr.remove((Integer)attacks.get(j).secondArg);
-					}
-				}
+		}
+		attackLive[pos] = !attackLive[pos];
+		boolean status = GroundedLabelling.isIssueIn(this, attackLive);
+		attackLive[pos] = !attackLive[pos];
+		return status;
+	}
+	
+	/**
+	 * This method computes the arguments which can reach the issue (see NeutralMoveFilter), from the current evaluations.
+	 * It can then be used to discard all the neutral moves (see "isNeutralIfPlayed"), as long as the weights don't change.
+	 * Method used in the EUMAS'15 work.
+	 */
+	public NeutralMoveFilter computeNeutralMoveFilter() {
+		getEvalIssue();
+		if (quadEvaluation == null) computeArgEvaluations();
+		return NeutralMoveFilter.compute(this, quadEvaluation);
+	}
+	
+	/**
+	 * This method returns true iff the move (relation, polarity) of the agent "ag" surely doesn't change the issue's evaluation
+	 * (i.e. "issueEvalIfPlayed" would return "evalIssue"), according to the filter "filter" (see NeutralMoveFilter.isNeutralIfFlipped).
+	 * If it returns false, then the move may, or may not, change the issue's evaluation.
+	 */
+	public boolean isNeutralIfPlayed(NeutralMoveFilter filter, BinaryRelation relation, Agent ag, boolean isPolarityPositive) {
+		int[] flip = flipOfMove(relation, ag, isPolarityPositive);
+		if (flip == null) return true;
+		return filter.isNeutralIfFlipped(this, flip[0], flip[1]);
+	}
+	
+	/**
+	 * This method returns the relation which would appear or disappear, if the move (relation, polarity) of the agent "ag" was played:
+	 * {position of the attack in "attacks", -1} or {-1, position of the support in "supports"}.
+	 * It returns null if the move doesn't make any weight cross 0.
+	 */
+	private int[] flipOfMove(BinaryRelation relation, Agent ag, boolean isPolarityPositive) {
+		if (relation == null) return null;
+		double moveImpact = computeMoveImpact(relation, ag);
+		if (relation instanceof Attack) {
+			int pos = attackPos(relation);
+			if (pos == -1 || !crossesZero(attackWeight(pos), moveImpact, isPolarityPositive)) return null;
+			return new int[] {pos, -1};
+		} else {
+			int pos = supportPos(relation);
+			if (pos == -1 || !crossesZero(supportWeight(pos), moveImpact, isPolarityPositive)) return null;
+			return new int[] {-1, pos};
+		}
+	}
+	
+	/**
+	 * Returns true iff a vote of impact "moveImpact" and of polarity "isPolarityPositive" makes the weight "weight" cross 0
+	 * (i.e. the relation appears or disappears).
+	 */
+	private static boolean crossesZero(double weight, double moveImpact, boolean isPolarityPositive) {
+		double newWeight = isPolarityPositive ? (weight + moveImpact) : (weight - moveImpact);
+		return (weight > 0) != (newWeight > 0);
+	}
+	
+	/**
+	 * This method returns the adjacency index of the Gameboard.
+	 * The index is (re)built if it doesn't exist yet, or if arguments/relations have been added to the Gameboard since it was built.
+	 * If the Gameboard replicates the relations of a reference Gameboard, then the topology of the reference's index is shared.
+	 * The ids of the relations (see BinaryRelation.relID) are (re)assigned at the same time, and the weights of the relations and the evaluations
+	 * of the arguments are moved into the arrays of the index.
+	 * The index of an overlay shares the topology of its snapshot, and its weights are those of the snapshot with the deltas applied:
+	 * the shared relation and argument objects are left bound to the reference (see "isOverlay").
+	 */
+	public RelationIndex getRelationIndex() {
+		if (base != null) {
+			if (relationIndex == null) {
+				relationIndex = new RelationIndex(base.index, attDeltas.applyTo(base.attWeight), suppDeltas.applyTo(base.suppWeight));
+			}
+			return relationIndex;
+		}
+		if (relationIndex == null || !relationIndex.isConsistentWith(arguments.size(), attacks.size(), supports.size())) {
+			if (sharedTopology != null && sharedTopology.hasSameRelations(arguments.size(), attacks, supports)) {
+				relationIndex = new RelationIndex(sharedTopology, attacks, supports);
+			} else {
+				relationIndex = new RelationIndex(arguments, attacks, supports);
+			}
+			for (int i=0; i<arguments.size(); i++) {
+				arguments.get(i).bindEval(relationIndex.argEval);
 			}
 		}
-		return grounded;
+		return relationIndex;
 	}
 	
 	/**
-	 * This method computes all the target sets (for grounded acceptability) on the Gameboard.
-	 * If currently the issue is "In"/"Out", then the goal is to make it "Out"/"In".
+	 * This method returns the position of the attack of this Gameboard which has the same arguments as "rel" (an attack of any Gameboard),
+	 * or -1 if there is no such attack. If "rel" has the same id on this Gameboard (which is the case for the reference Gameboard,
+	 * the Gameboards of the agent types and those of the agents), then it's an array access; otherwise the pair index is used.
+	 * An overlay finds its relations in the index of its snapshot (they're the same), so it doesn't build its own index.
 	 */
-	public void computeTargetSets() {
-		targetSets = new ArrayList<ArrayList<Attack>>();
-		ArrayList<ArrayList<Integer>> targetSetsPointer = new ArrayList<ArrayList<Integer>>();
-		// Initialize the modAttPointer list which helps us compute the possible combinations of attack changes.
-		ArrayList<Integer> modAttPointer = new ArrayList<Integer>();
-		for (int i=0; i<attackMod.size(); i++) {
-			modAttPointer.add(0);
+	public int attackPos(BinaryRelation rel) {
+		RelationIndex index = (base != null) ? base.index : getRelationIndex();
+		int pos = rel.relID;
+		if (pos >= 0 && pos < index.numAttacks && index.attFirst[pos] == rel.firstArg && index.attSecond[pos] == rel.secondArg) {
+			return pos;
 		}
-		boolean existMore = true;
-		while (existMore) {
-//			System.out.println("exist more...");
-			// Set up the next composition of the modAttPointer list. The 0 elements will not be changed, whereas the 1 elements will.
-			for (int i=0; i<modAttPointer.size(); i++) {
-				if (modAttPointer.get(i)==0) {
-					modAttPointer.set(i, 1);
-					break;
+		return index.findAttack(rel.firstArg, rel.secondArg);
+	}
+	
+	/**
+	 * Same as "attackPos", for the supports.
+	 */
+	public int supportPos(BinaryRelation rel) {
+		RelationIndex index = (base != null) ? base.index : getRelationIndex();
+		int pos = rel.relID;
+		if (pos >= 0 && pos < index.numSupports && index.suppFirst[pos] == rel.firstArg && index.suppSecond[pos] == rel.secondArg) {
+			return pos;
+		}
+		return index.findSupport(rel.firstArg, rel.secondArg);
+	}
+	
+	/**
+	 * Returns the attack of this Gameboard which has the same arguments as "rel", or null (see "attackPos").
+	 */
+	public Attack getAttack(BinaryRelation rel) {
+		int pos = attackPos(rel);
+		return (pos == -1) ? null : attacks.get(pos);
+	}
+	
+	/**
+	 * Returns the support of this Gameboard which has the same arguments as "rel", or null (see "supportPos").
+	 */
+	public Support getSupport(BinaryRelation rel) {
+		int pos = supportPos(rel);
+		return (pos == -1) ? null : supports.get(pos);
+	}
+	
+	/**
+	 * This method records that the weight of the relation "rel" (an attack or a support, at position "pos" in "attacks" or "supports")
+	 * has changed from "oldWeight". Both semantics only depend on which relations have a positive weight, therefore:
+	 * (1) If the relation's weight has not crossed the weight>0 boundary, then nothing has to be done.
+	 * (2) Otherwise, "evalIssue" (and, if the relation is an attack, "statusIssue") becomes "dirty". The relation is remembered, so that
+	 *     only the part of the grounded labelling, or of the evaluations, which may have changed is recomputed when the value is first read.
+	 */
+	void relationChanged(BinaryRelation rel, int pos, double oldWeight) {
+		if (statusIssueOverridden) {
+			// As with the older code, any vote brings "statusIssue" back to the status given by the weights.
+			statusIssueOverridden = false;
+			statusIssueDirty = true;
+		}
+		double newWeight = (rel instanceof Attack) ? attackWeight(pos) : supportWeight(pos);
+		if ((oldWeight > 0) == (newWeight > 0)) {
+			// The relation is still "present" (or still "absent"), so nothing has changed.
+			return;
+		}
+		if (rel instanceof Attack) {
+			statusIssueDirty = true;
+			if (attackLive != null && attackLive.length == attacks.size()) attackLive[pos] = (newWeight > 0);
+			if (groundedLabelling != null) {
+				if (pendingSeeds == null) pendingSeeds = new int[arguments.size()];
+				if (numPendingSeeds < pendingSeeds.length) {
+					pendingSeeds[numPendingSeeds++] = rel.secondArg;
 				} else {
-					modAttPointer.set(i, 0);
+					// Too many changes: the labelling will be computed again.
+					groundedLabelling = null;
+					numPendingSeeds = 0;
+					groundedVersion++;
 				}
 			}
-			// Check whether this composition is a superset of a composition which is a target set (then there is no need to examine it).
-			boolean isSupersetTSet = false;
-			for (int i=0; i<targetSetsPointer.size() && !isSupersetTSet; i++) {
-				isSupersetTSet = true;
-				for (int j=0; j<targetSetsPointer.get(i).size(); j++) {
-					if (targetSetsPointer.get(i).get(j) == 1 && modAttPointer.get(j) == 0) {
-						isSupersetTSet = false;	
-					}
-				}
+			if (pendingAtts == null) pendingAtts = new int[attacks.size()];
+			if (numPendingAtts < pendingAtts.length) {
+				pendingAtts[numPendingAtts++] = pos;
+			} else {
+				pendingOverflow = true;
 			}
-			if (isSupersetTSet) {
-//				for (int i=0; i<modAttPointer.size(); i++) {
-//					System.out.print(modAttPointer.get(i) + " ");
-//				}
-//				System.out.println("   SUPERSET");
+		} else {
+			if (pendingSupps == null) pendingSupps = new int[supports.size()];
+			if (numPendingSupps < pendingSupps.length) {
+				pendingSupps[numPendingSupps++] = pos;
+			} else {
+				pendingOverflow = true;
 			}
-			if (!isSupersetTSet) {
-//				System.out.println("I have " + targetSetsPointer.size() + " target sets: ");
-//				for (int i=0; i<targetSetsPointer.size(); i++) {
-//					for (int j=0; j<targetSetsPointer.get(i).size(); j++) {
-//						System.out.print(targetSetsPointer.get(i).get(j) + " ");
-//					}
-//				}
-//				
-//				System.out.println("Also I am currently analyzing the tset: ");
-//				for (int i=0; i<modAttPointer.size(); i++) {
-//					System.out.print(modAttPointer.get(i) + " ");
-//				}
-//				System.out.println("   NO-SUPERSET");
-				// Using modAttPointer, change the weights of the "chosen" attacks.
-				for (int i=0; i<modAttPointer.size(); i++) {
-					if (modAttPointer.get(i) == 1) {
-						attackMod.get(i).changeWeightSign();
-					}
-				}
-				// Check if the status has changed, and in that case add the newly found target set into the targetSets list.
-				// We remind that the issue is argument 0.
-				// TO DO: Make this better (Argument class).
-				if (statusIssue != computeGrounded().contains(0)) {
-					ArrayList<Attack> tset = new ArrayList<Attack>();
-					ArrayList<Integer> tsetPtr = new ArrayList<Integer>();
-					for (int i=0; i<modAttPointer.size(); i++) {
-						if (modAttPointer.get(i) == 1) {
-							tset.add(attackMod.get(i));
-							tsetPtr.add(1);
-						} else {
-							tsetPtr.add(0);
-						}
-					}
-//					System.out.println("-----ADD A NEW TSET!------");
-					targetSets.add(tset);
-					targetSetsPointer.add(tsetPtr);
-				}
-				// Using modAttPointer, restore the old weight values of the attacks.
-				for (int i=0; i<modAttPointer.size(); i++) {
-					if (modAttPointer.get(i) == 1) {
-						attackMod.get(i).changeWeightSign();
-					}
-				}
+		}
+		evalIssueDirty = true;
+	}
+	
+	/**
+	 * This method returns the status of the issue under grounded semantics (true iff it's IN).
+	 * If some attacks have appeared or disappeared since it was last computed, then the grounded labelling is first brought up-to-date:
+	 * (1) If INCREMENTAL_GROUNDED is set, only the arguments downstream of these attacks are re-labelled (see GroundedLabelling.update).
+	 * (2) Otherwise (or if there is no labelling yet), the whole labelling is computed.
+	 * Method used in the CLIMA'14 work.
+	 */
+	public boolean getStatusIssue() {
+		if (statusIssueDirty) {
+			if (groundedLabelling == null || !INCREMENTAL_GROUNDED) {
+				groundedLabelling = computeGroundedLabelling();
+			} else if (numPendingSeeds > 0) {
+				groundedLabelling.update(this, pendingSeeds, numPendingSeeds);
 			}
-			// Check if there are more possible combinations.
-			existMore = false;
-			for (int i=0; i<modAttPointer.size(); i++) {
-				if (modAttPointer.get(i)==0) {
-					existMore=true;
-					break;
-				}
+			numPendingSeeds = 0;
+			groundedVersion++;
+			// We remind that the issue is argument 0.
+			statusIssue = groundedLabelling.isIn(0);
+			statusIssueDirty = false;
+			if (base != null) releaseDenseState();
+		}
+		return statusIssue;
+	}
+	
+	/**
+	 * This method sets "statusIssue" to "status", until the next vote on a relation of the Gameboard (the grounded labelling is not changed).
+	 * It's only used to reproduce the older CLIMA'14 runs, in which taking back a move left the status of the issue in the agent's view
+	 * (see Agent.LEGACY_TAKEBACK_STATUS).
+	 */
+	void overrideStatusIssue(boolean status) {
+		// First, consume the pending changes, so that the labelling is up-to-date when the override ends.
+		getStatusIssue();
+		statusIssue = status;
+		statusIssueOverridden = true;
+	}
+	
+	/**
+	 * This method returns the QUAD evaluation of the issue.
+	 * If some relations have appeared or disappeared since it was last computed, then the arguments' evaluations are first brought up-to-date:
+	 * (1) If INCREMENTAL_QUAD is set, only the arguments downstream of these relations are re-evaluated (see QuadEvaluation.update),
+	 *     unless a relation changes the topological order (e.g. it closes or breaks a cycle).
+	 * (2) Otherwise, all the arguments are evaluated again (see "computeArgEvaluations").
+	 * The "eval" attributes of the arguments are brought up-to-date at the same time.
+	 * Method used in the EUMAS'15 work.
+	 */
+	public double getEvalIssue() {
+		if (evalIssueDirty) {
+			boolean recompute = (quadEvaluation == null || !INCREMENTAL_QUAD || pendingOverflow);
+			for (int i=0; i<numPendingAtts && !recompute; i++) {
+				int pos = pendingAtts[i];
+				// The attack may have appeared and disappeared again.
+				if (quadEvaluation.attLive[pos] == (attackWeight(pos) > 0)) continue;
+				recompute = !updateArgEvaluations(pos, -1);
+			}
+			for (int i=0; i<numPendingSupps && !recompute; i++) {
+				int pos = pendingSupps[i];
+				if (quadEvaluation.suppLive[pos] == (supportWeight(pos) > 0)) continue;
+				recompute = !updateArgEvaluations(-1, pos);
+			}
+			if (recompute) {
+				computeArgEvaluations();
+			} else {
+				clearPendingEvaluations();
+			}
+			if (base != null) releaseDenseState();
+		}
+		return evalIssue;
+	}
+	
+	/**
+	 * This method updates the arguments' evaluations after the attack "flipAtt" (or the support "flipSupp") has appeared or disappeared
+	 * (see QuadEvaluation.update). Returns false if the update is not possible (then nothing has changed).
+	 */
+	private boolean updateArgEvaluations(int flipAtt, int flipSupp) {
+		if (!quadEvaluation.update(this, flipAtt, flipSupp)) {
+			return false;
+		}
+		double[] argEval = getRelationIndex().argEval;
+		for (int i=0; i<quadEvaluation.numChanged; i++) {
+			int currArg = quadEvaluation.changed[i];
+			argEval[currArg] = quadEvaluation.evals[currArg];
+		}
+		return true;
+	}
+	
+	/**
+	 * This method forgets the relations which have changed since the last evaluation, and reads "evalIssue" from the (up-to-date) evaluations.
+	 */
+	private void clearPendingEvaluations() {
+		numPendingAtts = 0;
+		numPendingSupps = 0;
+		pendingOverflow = false;
+		quadVersion++;
+		evalIssue = getRelationIndex().argEval[0];
+		evalIssueDirty = false;
+	}
+	
+	/**
+	 * This method returns true iff the Gameboard has no cycle of attacks and supports, whatever their weights
+	 * (i.e. even if all the addable relations were added). Then the QUAD evaluation of every argument is possible.
+	 * The check decomposes the graph into strongly connected components (see ComponentDecomposition), in linear time.
+	 * Method used in the EUMAS'15 work.
+	 */
+	public boolean isAcyclic() {
+		return ComponentDecomposition.compute(getRelationIndex(), null, null).isAcyclic();
+	}
+	
+	/**
+	 * This method returns true iff the issue (argument 0) is IN the grounded extension of the Gameboard.
+	 * Only the arguments which can reach the issue through attacks are evaluated (see GroundedLabelling.isIssueIn).
+	 * Callers which only need the status of the issue should prefer this method over "computeGrounded().contains(0)".
+	 */
+	public boolean isIssueAccepted() {
+		boolean accepted = GroundedLabelling.isIssueIn(this);
+		if (base != null) releaseDenseState();
+		return accepted;
+	}
+	
+	/**
+	 * This method computes the grounded labelling (IN/OUT/UNDEC) of the Gameboard, in linear time.
+	 * It's the default way to find the status of the issue (argument 0 is IN or not).
+	 */
+	public GroundedLabelling computeGroundedLabelling() {
+		return GroundedLabelling.compute(this);
+	}
+	
+	/**
+	 * This method computes the grounded extension of a Gameboard (the argIDs of the IN arguments of its grounded labelling).
+	 */
+	public ArrayList<Integer> computeGrounded() {
+		return computeGroundedLabelling().getExtension();
+	}
+	
+	/**
+	 * This method returns all the target sets (for grounded acceptability) on the Gameboard, and keeps them in "targetSets".
+	 * If currently the issue is "In"/"Out", then the goal is to make it "Out"/"In".
+	 * The target sets are generated by increasing size (see TargetSetSearch), so they are ordered from the smallest to the biggest,
+	 * and the supersets of found target sets are never examined.
+	 * The weights of the attacks are not changed: the search works on a snapshot of them (in parallel, when there are many modifiable attacks).
+	 * The search is only done when it's needed: if no attack which can reach the issue has changed sign since the last search
+	 * (e.g. after a move which didn't make a weight cross 0, or after a move and its takeback), then "targetSets" is kept as it is.
+	 * Otherwise, the target sets are revised from the status table of the last search (see TargetSetTable), if it covers the new configuration:
+	 * the minimal sets of the previous configuration alone are not enough (the sets changing the status of the issue are not closed under supersets),
+	 * but the table gives the status of the issue for every sign of the core attacks, so no status is evaluated again.
+	 * Otherwise, the target sets are looked up in the Gameboard's cache (see TargetSetCache), which keeps those of the last configurations met
+	 * (when a Gameboard is reset and debated again, most configurations have already been met), and they are searched again if they're not in it.
+	 * It should only be used by the callers which need the whole family (e.g. to count the target sets); the others should use "targetSetIterator".
+	 * The returned list (and every target set in it) is unmodifiable, since it may be shared with the cache.
+	 */
+	public List<List<Attack>> getTargetSets() {
+		long[] signature = TargetSetSearch.signature(this, attackMod);
+		if (targetSets != null && Arrays.equals(signature, targetSetsSignature)) {
+			return targetSets;
+		}
+		List<List<Attack>> tsets = (targetSetTable != null) ? targetSetTable.revise(this, signature) : null;
+		if (tsets == null) {
+			tsets = getTargetSetCache().get(signature);
+		}
+		if (tsets == null) {
+			TargetSetSearch search = new TargetSetSearch(this, attackMod);
+			if (search.coreAttacks.size() <= TargetSetTable.MAX_CORE_ATTACKS) {
+				targetSetTable = new TargetSetTable(search, signature);
+				tsets = targetSetTable.revise(this, signature);
+			} else {
+				tsets = TargetSetSearch.unmodifiable(search.computeAll());
 			}
-		}	
+			targetSetCache.put(signature, tsets);
+		}
+		targetSets = tsets;
+		targetSetsSignature = signature;
+		return targetSets;
+	}
+	
+	/**
+	 * This method returns the cache of the target sets of the Gameboard (it's created on first use, with TargetSetCache.DEFAULT_CAPACITY entries).
+	 * Its statistics (hits and misses) can be used to choose its capacity (see "setTargetSetCache").
+	 */
+	public TargetSetCache getTargetSetCache() {
+		if (targetSetCache == null) {
+			targetSetCache = new TargetSetCache();
+		}
+		return targetSetCache;
+	}
+	
+	/**
+	 * This method replaces the cache of the target sets of the Gameboard (e.g. by a cache having another capacity).
+	 */
+	public void setTargetSetCache(TargetSetCache cache) {
+		targetSetCache = cache;
+	}
+	
+	/**
+	 * This method returns an iterator over the target sets of the Gameboard, ordered from the smallest to the biggest.
+	 * If "targetSets" is up-to-date (see "getTargetSets"), then the iterator simply goes through it.
+	 * If the status table of the last search covers the current configuration (see TargetSetTable), then the target sets are revised from it.
+	 * Otherwise (in particular during the debates, where nothing materializes them), the target sets are searched on demand: the sets of a given size are only searched when all the smaller ones have been returned,
+	 * so a caller which stops after the smallest target sets doesn't pay for the bigger ones.
+	 * The iterator is based on the weights at the time of the call (it's not affected by later moves), and it doesn't change "targetSets".
+	 */
+	public Iterator<List<Attack>> targetSetIterator() {
+		long[] signature = TargetSetSearch.signature(this, attackMod);
+		if (targetSets != null && Arrays.equals(signature, targetSetsSignature)) {
+			return targetSets.iterator();
+		}
+		List<List<Attack>> tsets = (targetSetTable != null) ? targetSetTable.revise(this, signature) : null;
+		if (tsets != null) {
+			return tsets.iterator();
+		}
+		return new TargetSetSearch(this, attackMod).iterator();
 	}
 	
 	/**
 	 * This method computes the evaluations of the GB's arguments. It's a generic method which starts from unattacked arguments, and 
 	 * computes their evaluations on the basis of their direct attackers and defenders.
-	 * Attention: It should not be used if the Gameboard contains cycles!
+	 * The arguments are evaluated in a single pass, in a topological order of the (positive) relations (see QuadEvaluation).
+	 * Attention: If the Gameboard contains cycles, the arguments in, or downstream of, a cycle keep an evaluation of -10,
+	 * unless ITERATIVE_QUAD is set: then they are evaluated by a fixed-point iteration (see QuadEvaluation.solveCycles).
 	 */
 	public void computeArgEvaluations() {
-		// We have to evaluate all the arguments in "gb".
-		// First, we delete the arguments' previous evaluations.
-		// If (eval == -10), then this argument is not currently evaluated.  
-		for (int i=0; i<arguments.size(); i++) {
-			arguments.get(i).eval = (double) -10.0;
-		}
-		int numEvaluated = 0;
-		boolean fixPointReached = false;
-		while (numEvaluated < arguments.size() && !fixPointReached) {
-			// There are still arguments to be evaluated.
-			fixPointReached = true; // This will remain like that, unless an argument is evaluated during this loop.
-			for (int i=0; i<arguments.size(); i++) {
-				Argument currArg = arguments.get(i);
-				boolean needsEval = true;
-				// We must not evaluate this argument if:
-				// (1) It already has an evaluation
-				if (currArg.eval != -10) needsEval = false;
-				// (2) It has one attacker/supporter which is non-evaluated.
-				ArrayList<Argument> attackers = new ArrayList<Argument>();
-				ArrayList<Argument> supporters= new ArrayList<Argument>();
-				Attack currAtt;
-				// Find all its attackers and supporters.
-				for (int j=0; j<attacks.size(); j++) {
-					currAtt = attacks.get(j);
-					if (currAtt.secondArg == currArg.argID && currAtt.weight > 0)  { // Reminder: the attack's weight must be positive.
-						attackers.add(Argument.getArg(attacks.get(j).firstArg, arguments));
-					}
-				}
-				Support currSupp;
-				for (int j=0; j<supports.size(); j++) {
-					currSupp = supports.get(j);
-					if (currSupp.secondArg == currArg.argID && currSupp.weight > 0) { // Reminder: the support's weight must be positive.
-						supporters.add(Argument.getArg(supports.get(j).firstArg, arguments));
-					}
-				}
-				// Is there any attacker/supporter non-evaluated?
-				for (int j=0; j<attackers.size(); j++) {
-					if (attackers.get(j).eval == -10) needsEval = false; 
-				}
-				for (int j=0; j<supporters.size(); j++) {
-					if (supporters.get(j).eval == -10) needsEval = false; 
-				}
-				if (needsEval) {
-					// Evaluate this argument.
-					currArg.eval = evaluateArgQUAD(currArg, attackers, supporters);
-					numEvaluated++;
-					fixPointReached = false;
-				}
-			}
+		quadEvaluation = QuadEvaluation.compute(this);
+		if (ITERATIVE_QUAD) {
+			quadEvaluation.solveCycles(getRelationIndex());
 		}
+		System.arraycopy(quadEvaluation.evals, 0, getRelationIndex().argEval, 0, arguments.size());
+		clearPendingEvaluations();
 		return;
 	}
 	
@@ -933,7 +1429,7 @@ public class Gameboard {
 		} else {
 			vAttIsNil = true;
 			for (int i=0; i<attackers.size(); i++) {
-				if (attackers.get(i).eval != 0.0) vAttIsNil = false;
+				if (attackers.get(i).getEval() != 0.0) vAttIsNil = false;
 			}
 		}
 		if (vAttIsNil) {
@@ -943,7 +1439,7 @@ public class Gameboard {
 			// Start from arg.eval, and repeatedly compute the "effect" of every attack.
 			vAtt = vBase;
 			for (int i=0; i<attackers.size(); i++) {
-				vAtt = vAtt - (vAtt * attackers.get(i).eval);
+				vAtt = vAtt - (vAtt * attackers.get(i).getEval());
 			}
 		}
 		
@@ -955,7 +1451,7 @@ public class Gameboard {
 		} else {
 			vSuppIsNil = true;
 			for (int i=0; i<supporters.size(); i++) {
-				if (supporters.get(i).eval != 0.0) vSuppIsNil= false;
+				if (supporters.get(i).getEval() != 0.0) vSuppIsNil= false;
 			}
 		}
 		if (vSuppIsNil) {
@@ -965,7 +1461,7 @@ public class Gameboard {
 			// Start from arg.eval, and repeatedly compute the "effect" of every support.
 			vSupp = vBase;
 			for (int i=0; i<supporters.size(); i++) {
-				vSupp = vSupp + ((1 - vSupp) * supporters.get(i).eval);
+				vSupp = vSupp + ((1 - vSupp) * supporters.get(i).getEval());
 			}
 		}
 		
@@ -1000,58 +1496,69 @@ public class Gameboard {
 		if (wr == null) {
 			System.out.println("The GB has the following attacks:");
 			for(int i=0; i<attacks.size(); i++) {
-				attacks.get(i).printRelation(wr);
+				printRelation(attacks.get(i), wr);
 				System.out.print(" ");
 			}
 			System.out.println();
 			System.out.println("The GB has the following supports:");
 			for(int i=0; i<supports.size(); i++) {
-				supports.get(i).printRelation(wr);
+				printRelation(supports.get(i), wr);
 				System.out.print(" ");
 
 			}
 			System.out.println();
-			System.out.println("Under grounded semantics, status of issue = " + statusIssue);
-			System.out.println("Under QUAD, evaluation of issue = " + evalIssue);
+			System.out.println("Under grounded semantics, status of issue = " + getStatusIssue());
+			System.out.println("Under QUAD, evaluation of issue = " + getEvalIssue());
 		} else {
 			wr.println("The GB has the following attacks:");
 			for(int i=0; i<attacks.size(); i++) {
-				attacks.get(i).printRelation(wr);
+				printRelation(attacks.get(i), wr);
 			}
 			wr.println("The GB has the following supports:");
 			for(int i=0; i<supports.size(); i++) {
-				supports.get(i).printRelation(wr);
+				printRelation(supports.get(i), wr);
 			}
-			wr.println("The status of the issue is: " + statusIssue);
-			wr.println("The evaluation of the issue is: " + evalIssue);
+			wr.println("The status of the issue is: " + getStatusIssue());
+			wr.println("The evaluation of the issue is: " + getEvalIssue());
 			wr.println();
 		}
 		System.out.println("======================================");
 	}
 
+	/**
+	 * This function prints the two arguments of the relation "rel", as well as its weight on this Gameboard (see "getWeight").
+	 */
+	private void printRelation(BinaryRelation rel, PrintWriter wr) {
+		if (wr == null) {
+			System.out.print("<(" + rel.firstArg + ", " + rel.secondArg + "), " + getWeight(rel) + ">");
+		} else {
+			wr.print("<(" + rel.firstArg + ", " + rel.secondArg + "), " + getWeight(rel) + ">");
+		}
+	}
+
 	/**
 	 * This function prints all the target sets of the Gameboard.
 	 */
 	public void printTargetSets(PrintWriter wr) {
 		if (wr == null) {
 			System.out.println("The target sets of the Gameboard are: ");
-			computeTargetSets();
-			for (int i=0; i<targetSets.size(); i++) {
-				ArrayList<Attack> tset = targetSets.get(i);
+			List<List<Attack>> tsets = getTargetSets();
+			for (int i=0; i<tsets.size(); i++) {
+				List<Attack> tset = tsets.get(i);
 				System.out.println("Target set " + i + " :");
 				for (int j=0; j<tset.size(); j++) {
-					tset.get(j).printRelation(wr);
+					printRelation(tset.get(j), wr);
 					System.out.println();
 				}
 			}
 		} else {
 			wr.println("The target sets of the Gameboard are: ");
-			computeTargetSets();
-			for (int i=0; i<targetSets.size(); i++) {
-				ArrayList<Attack> tset = targetSets.get(i);
+			List<List<Attack>> tsets = getTargetSets();
+			for (int i=0; i<tsets.size(); i++) {
+				List<Attack> tset = tsets.get(i);
 				wr.println("Target set " + i + " :");
 				for (int j=0; j<tset.size(); j++) {
-					tset.get(j).printRelation(wr);
+					printRelation(tset.get(j), wr);
 					wr.println();
 				}
 			}
@@ -0,0 +1,396 @@
+package debateComponents;
+
+import java.util.ArrayList;
+
+/**
+ * This class contains the grounded labelling of a Gameboard: every argument is labelled IN, OUT or UNDEC.
+ * The arguments labelled IN are exactly the arguments of the grounded extension.
+ * It also contains the (static) engine which computes the labelling, in time O(|Args| + |Attacks|).
+ * Only attacks with a positive weight are taken into account (supports play no role in grounded semantics).
+ * The label of an argument only depends on the arguments which can reach it, so the labelling is computed component by component
+ * (see ComponentDecomposition), in a topological order of the condensation: an argument which isn't on a cycle is labelled directly
+ * from its attackers, and the counter-based propagation is only needed inside the cyclic components.
+ * Class used in the CLIMA'14 work.
+ */
+public class GroundedLabelling {
+
+	///////////////////////
+	// Static attributes //
+	///////////////////////
+
+	// The three possible labels of an argument.
+	public static final byte UNDEC = 0;
+	public static final byte IN = 1;
+	public static final byte OUT = 2;
+
+
+	///////////////////////////
+	// Non-static attributes //
+	///////////////////////////
+
+	/**
+	 * The label of every argument (indexed by argID).
+	 */
+	final byte[] labels;
+	// Scratch arrays, used (and reused) by the incremental update of the labelling.
+	// An argument belongs to the currently re-labelled region iff (regionStamp[a] == currentStamp), and then region[regionPos[a]] == a.
+	private int[] regionStamp;
+	private int currentStamp;
+	private int[] region;
+	private int[] regionPos;
+	private byte[] previousLabels;
+	private int[] liveAttackers;
+	private int[] queue;
+
+
+	////////////////////
+	// Static methods //
+	////////////////////
+
+	/**
+	 * This method computes the grounded labelling of the Gameboard "gb".
+	 * The graph of the (positive) attacks is decomposed into components, which are labelled in a topological order of the condensation
+	 * (see "labelComponent"): when a component is labelled, all its attackers outside of it already have their final label.
+	 * Every attack is visited a constant number of times, so the computation is linear.
+	 */
+	public static GroundedLabelling compute(Gameboard gb) {
+		RelationIndex index = gb.getRelationIndex();
+		int numArgs = index.numArgs;
+		GroundedLabelling labelling = new GroundedLabelling(numArgs);
+		ComponentDecomposition scc = ComponentDecomposition.computeAttacks(index, null, numArgs, null);
+		int[] liveAttackers = new int[numArgs];
+		int[] queue = new int[numArgs];
+		for (int c=0; c<scc.numComponents; c++) {
+			labelComponent(index, scc, c, labelling.labels, liveAttackers, queue);
+		}
+		return labelling;
+	}
+	
+	/**
+	 * This method labels the arguments of the component "c" of "scc", given the labels of all the arguments upstream of it.
+	 * (1) An argument attacked by an IN argument of an earlier component is OUT.
+	 * (2) Every other argument keeps a counter of its attackers which may not be OUT: those of the same component, and the UNDEC
+	 *     ones of the earlier components (which will never become OUT).
+	 * (3) If the component isn't cyclic, then its single argument is IN if its counter is 0, and UNDEC otherwise.
+	 * (4) Otherwise, it's a queue-driven version of the usual fixpoint computation, inside the component: an argument whose counter
+	 *     falls to 0 is IN, every argument it attacks is OUT, and the counters of the arguments attacked by a new OUT argument are decreased.
+	 *     The arguments which are never reached remain UNDEC.
+	 * "liveAttackers" and "queue" are scratch arrays (indexed by argID).
+	 */
+	private static void labelComponent(RelationIndex index, ComponentDecomposition scc, int c, byte[] labels, int[] liveAttackers, int[] queue) {
+		int from = scc.compStart[c];
+		int to = scc.compStart[c+1];
+		for (int i=from; i<to; i++) {
+			labels[scc.compArgs[i]] = UNDEC;
+		}
+		for (int i=from; i<to; i++) {
+			int currArg = scc.compArgs[i];
+			liveAttackers[currArg] = 0;
+			boolean hasInAttacker = false;
+			for (int k=index.attInStart[currArg]; k<index.attInStart[currArg+1]; k++) {
+				int currAtt = index.attInRel[k];
+				if (index.attWeight[currAtt] <= 0) continue;
+				int attacker = index.attFirst[currAtt];
+				if (scc.getComponent(attacker) == c) {
+					liveAttackers[currArg]++;
+				} else if (labels[attacker] == IN) {
+					hasInAttacker = true;
+				} else if (labels[attacker] == UNDEC) {
+					liveAttackers[currArg]++;
+				}
+			}
+			if (hasInAttacker) labels[currArg] = OUT;
+		}
+		if (!scc.cyclic[c]) {
+			int currArg = scc.compArgs[from];
+			if (labels[currArg] == UNDEC && liveAttackers[currArg] == 0) labels[currArg] = IN;
+			return;
+		}
+		// The arguments which are already OUT no longer count as (non-OUT) attackers.
+		for (int i=from; i<to; i++) {
+			int currArg = scc.compArgs[i];
+			if (labels[currArg] != OUT) continue;
+			for (int k=index.attOutStart[currArg]; k<index.attOutStart[currArg+1]; k++) {
+				int currAtt = index.attOutRel[k];
+				int target = index.attSecond[currAtt];
+				if (index.attWeight[currAtt] > 0 && labels[target] != OUT && scc.getComponent(target) == c) {
+					liveAttackers[target]--;
+				}
+			}
+		}
+		int head = 0;
+		int tail = 0;
+		for (int i=from; i<to; i++) {
+			int currArg = scc.compArgs[i];
+			if (labels[currArg] == UNDEC && liveAttackers[currArg] == 0) {
+				labels[currArg] = IN;
+				queue[tail++] = currArg;
+			}
+		}
+		while (head < tail) {
+			int currArg = queue[head++];
+			// Every argument (of the component) attacked by an IN argument is OUT.
+			for (int k=index.attOutStart[currArg]; k<index.attOutStart[currArg+1]; k++) {
+				int currAtt = index.attOutRel[k];
+				if (index.attWeight[currAtt] <= 0) continue;
+				int attacked = index.attSecond[currAtt];
+				if (labels[attacked] == OUT || scc.getComponent(attacked) != c) continue;
+				labels[attacked] = OUT;
+				// The arguments attacked by the new OUT argument lose one of their (non-OUT) attackers.
+				for (int l=index.attOutStart[attacked]; l<index.attOutStart[attacked+1]; l++) {
+					int nextAtt = index.attOutRel[l];
+					if (index.attWeight[nextAtt] <= 0) continue;
+					int target = index.attSecond[nextAtt];
+					if (labels[target] == UNDEC && scc.getComponent(target) == c) {
+						liveAttackers[target]--;
+						if (liveAttackers[target] == 0) {
+							labels[target] = IN;
+							queue[tail++] = target;
+						}
+					}
+				}
+			}
+		}
+	}
+
+
+	/**
+	 * This method computes the "robust" labels of the arguments of "gb", when some attacks are uncertain (they may be present or not).
+	 * The attacks which are present are given by "attackLive", and the uncertain ones by "attackUncertain" (both indexed by the attacks' positions in gb.attacks).
+	 * An argument gets the label IN (resp. OUT) only if it's IN (resp. OUT) in the grounded labelling of every configuration of the uncertain attacks.
+	 * It's the same queue-driven computation as in "compute", with the following differences:
+	 * (1) An argument is IN when all its present and uncertain attackers are OUT.
+	 * (2) An argument is OUT when it's attacked by an IN argument through a present attack which isn't uncertain.
+	 * The other arguments are labelled UNDEC (their label depends on the uncertain attacks, or it's UNDEC in some configurations).
+	 */
+	public static byte[] computeRobust(Gameboard gb, boolean[] attackLive, boolean[] attackUncertain) {
+		RelationIndex index = gb.getRelationIndex();
+		int numArgs = index.numArgs;
+		byte[] labels = new byte[numArgs];
+		// The number of present or uncertain attacks that every argument receives from arguments which are not OUT.
+		int[] possibleAttackers = new int[numArgs];
+		int[] queue = new int[numArgs];
+		int head = 0;
+		int tail = 0;
+		for (int a=0; a<numArgs; a++) {
+			for (int k=index.attInStart[a]; k<index.attInStart[a+1]; k++) {
+				int currAtt = index.attInRel[k];
+				if (attackLive[currAtt] || attackUncertain[currAtt]) possibleAttackers[a]++;
+			}
+			if (possibleAttackers[a] == 0) {
+				labels[a] = IN;
+				queue[tail++] = a;
+			}
+		}
+		while (head < tail) {
+			int currArg = queue[head++];
+			for (int k=index.attOutStart[currArg]; k<index.attOutStart[currArg+1]; k++) {
+				int currAtt = index.attOutRel[k];
+				// Only an attack which is surely present makes the attacked argument OUT.
+				if (!attackLive[currAtt] || attackUncertain[currAtt]) continue;
+				int attacked = index.attSecond[currAtt];
+				if (labels[attacked] == OUT) continue;
+				labels[attacked] = OUT;
+				for (int l=index.attOutStart[attacked]; l<index.attOutStart[attacked+1]; l++) {
+					int nextAtt = index.attOutRel[l];
+					if (!attackLive[nextAtt] && !attackUncertain[nextAtt]) continue;
+					int target = index.attSecond[nextAtt];
+					if (labels[target] == UNDEC) {
+						possibleAttackers[target]--;
+						if (possibleAttackers[target] == 0) {
+							labels[target] = IN;
+							queue[tail++] = target;
+						}
+					}
+				}
+			}
+		}
+		return labels;
+	}
+
+	/**
+	 * This method returns true iff the issue (argument 0) is IN the grounded extension of "gb".
+	 * It's a goal-directed version of "compute": the label of an argument only depends on the arguments which can reach it
+	 * through attacks, so only the (cached) set of the issue's ancestors is labelled, and the labelling stops as soon as
+	 * the issue gets a label. On large Gameboards, most of the arguments are irrelevant to the issue, so this is much cheaper
+	 * than computing the whole extension.
+	 */
+	public static boolean isIssueIn(Gameboard gb) {
+		return isIssueIn(gb, null);
+	}
+	
+	/**
+	 * Same as "isIssueIn(gb)", but the attacks which are "present" are given by "attackLive" (indexed by the attacks' positions in gb.attacks),
+	 * instead of being read from the attacks' weights. If "attackLive" is null, then the weights are used.
+	 * This allows evaluating hypothetical weight configurations (e.g. a snapshot where some attacks have changed sign) without touching the Gameboard,
+	 * so it can be called concurrently, as long as the topology of the Gameboard doesn't change.
+	 */
+	public static boolean isIssueIn(Gameboard gb, boolean[] attackLive) {
+		RelationIndex index = gb.getRelationIndex();
+		int[] ancestors = index.getIssueAncestors();
+		if (ancestors.length == 0) return false;
+		// Here, every array is indexed by the position of the argument in "ancestors" (the issue is at position 0).
+		byte[] labels = new byte[ancestors.length];
+		int[] liveAttackers = new int[ancestors.length];
+		int[] queue = new int[ancestors.length];
+		int head = 0;
+		int tail = 0;
+		for (int i=0; i<ancestors.length; i++) {
+			int currArg = ancestors[i];
+			for (int k=index.attInStart[currArg]; k<index.attInStart[currArg+1]; k++) {
+				if (isLive(gb, attackLive, index.attInRel[k])) liveAttackers[i]++;
+			}
+			if (liveAttackers[i] == 0) {
+				labels[i] = IN;
+				queue[tail++] = i;
+			}
+		}
+		while (head < tail && labels[0] == UNDEC) {
+			int currArg = ancestors[queue[head++]];
+			for (int k=index.attOutStart[currArg]; k<index.attOutStart[currArg+1]; k++) {
+				int currAtt = index.attOutRel[k];
+				if (!isLive(gb, attackLive, currAtt)) continue;
+				// The attacked argument may not be an ancestor of the issue (then we don't care about it).
+				int attacked = index.getIssueAncestorPos(index.attSecond[currAtt]);
+				if (attacked == -1 || labels[attacked] == OUT) continue;
+				labels[attacked] = OUT;
+				int attackedArg = ancestors[attacked];
+				for (int l=index.attOutStart[attackedArg]; l<index.attOutStart[attackedArg+1]; l++) {
+					int nextAtt = index.attOutRel[l];
+					if (!isLive(gb, attackLive, nextAtt)) continue;
+					int target = index.getIssueAncestorPos(index.attSecond[nextAtt]);
+					if (target != -1 && labels[target] == UNDEC) {
+						liveAttackers[target]--;
+						if (liveAttackers[target] == 0) {
+							labels[target] = IN;
+							queue[tail++] = target;
+						}
+					}
+				}
+			}
+		}
+		return labels[0] == IN;
+	}
+	
+	/**
+	 * Returns true iff the attack at position "att" is "present": either according to "attackLive" (if it's not null), or to its weight.
+	 */
+	private static boolean isLive(Gameboard gb, boolean[] attackLive, int att) {
+		if (attackLive != null) return attackLive[att];
+		return gb.getRelationIndex().attWeight[att] > 0;
+	}
+
+
+	////////////////////////
+	// Non-static methods //
+	////////////////////////
+
+	/**
+	 * Constructor (1/1).
+	 * Creates a labelling where all the arguments are UNDEC.
+	 */
+	public GroundedLabelling(int numArgs) {
+		labels = new byte[numArgs];
+	}
+
+	/**
+	 * This method updates the labelling after the weights of some attacks of "gb" have crossed the weight>0 boundary.
+	 * "seeds" contains the secondArg of every such attack (the first "numSeeds" elements are used).
+	 * The labelling of an argument only depends on the arguments which can reach it through (positive) attacks.
+	 * Therefore, only the arguments downstream of the seeds (the "region") are decomposed into components, and the labels of all
+	 * the other arguments are taken as fixed. The components of the region are then visited in topological order, but only those
+	 * of the seeds, and those attacked by an argument whose label has changed, are labelled again (see "labelComponent").
+	 * Method used in the CLIMA'14 work.
+	 */
+	public void update(Gameboard gb, int[] seeds, int numSeeds) {
+		RelationIndex index = gb.getRelationIndex();
+		int numArgs = labels.length;
+		if (regionStamp == null) {
+			regionStamp = new int[numArgs];
+			region = new int[numArgs];
+			regionPos = new int[numArgs];
+			previousLabels = new byte[numArgs];
+			liveAttackers = new int[numArgs];
+			queue = new int[numArgs];
+		}
+		currentStamp++;
+		
+		// (1) Find the region: all the arguments reachable from the seeds through positive attacks.
+		int regionSize = 0;
+		for (int i=0; i<numSeeds; i++) {
+			if (regionStamp[seeds[i]] != currentStamp) {
+				regionStamp[seeds[i]] = currentStamp;
+				regionPos[seeds[i]] = regionSize;
+				region[regionSize++] = seeds[i];
+			}
+		}
+		for (int i=0; i<regionSize; i++) {
+			int currArg = region[i];
+			for (int k=index.attOutStart[currArg]; k<index.attOutStart[currArg+1]; k++) {
+				int currAtt = index.attOutRel[k];
+				int attacked = index.attSecond[currAtt];
+				if (index.attWeight[currAtt] > 0 && regionStamp[attacked] != currentStamp) {
+					regionStamp[attacked] = currentStamp;
+					regionPos[attacked] = regionSize;
+					region[regionSize++] = attacked;
+				}
+			}
+		}
+		
+		// (2) Decompose the region, and label its components again, in topological order (with early cutoff).
+		ComponentDecomposition scc = ComponentDecomposition.computeAttacks(index, region, regionSize, regionPos);
+		boolean[] dirty = new boolean[scc.numComponents];
+		for (int i=0; i<numSeeds; i++) {
+			dirty[scc.getComponent(seeds[i])] = true;
+		}
+		for (int c=0; c<scc.numComponents; c++) {
+			if (!dirty[c]) continue;
+			for (int i=scc.compStart[c]; i<scc.compStart[c+1]; i++) {
+				previousLabels[scc.compArgs[i]] = labels[scc.compArgs[i]];
+			}
+			labelComponent(index, scc, c, labels, liveAttackers, queue);
+			// The components attacked by an argument whose label has changed must be labelled again.
+			for (int i=scc.compStart[c]; i<scc.compStart[c+1]; i++) {
+				int currArg = scc.compArgs[i];
+				if (labels[currArg] == previousLabels[currArg]) continue;
+				for (int k=index.attOutStart[currArg]; k<index.attOutStart[currArg+1]; k++) {
+					int currAtt = index.attOutRel[k];
+					if (index.attWeight[currAtt] > 0) dirty[scc.getComponent(index.attSecond[currAtt])] = true;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the label (IN, OUT or UNDEC) of the argument "argID".
+	 */
+	public byte getLabel(int argID) {
+		return labels[argID];
+	}
+
+	/**
+	 * Returns true iff the argument "argID" belongs to the grounded extension.
+	 */
+	public boolean isIn(int argID) {
+		return labels[argID] == IN;
+	}
+
+	/**
+	 * Returns the grounded extension, i.e. the argIDs of all the IN arguments (in increasing order).
+	 */
+	public ArrayList<Integer> getExtension() {
+		ArrayList<Integer> extension = new ArrayList<Integer>();
+		for (int a=0; a<labels.length; a++) {
+			if (labels[a] == IN) extension.add(a);
+		}
+		return extension;
+	}
+
+	/**
+	 * Returns the number of labelled arguments.
+	 */
+	public int size() {
+		return labels.length;
+	}
+
+}
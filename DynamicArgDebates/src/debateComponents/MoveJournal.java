@@ -0,0 +1,129 @@
+package debateComponents;
+
+import java.util.Arrays;
+
+/**
+ * This class contains the journal of the moves played on a Gameboard since some checkpoints (see Gameboard.checkpoint and Gameboard.rollback).
+ * For every weight change (of an attack or of a support), it records the position of the relation and its previous weight.
+ * For every checkpoint, it records the number of weight changes before it, and the state of the cached semantics at that time:
+ * the "versions" of the grounded labelling and of the QUAD evaluations (which are increased whenever they are brought up-to-date),
+ * and the relations which were waiting to be taken into account by them.
+ * So a rollback restores the weights in time proportional to the number of moves, and if the semantics have not been read meanwhile,
+ * it also restores their state as it was (nothing has to be recomputed); otherwise, only the part which depends on the restored
+ * relations is recomputed, when it's first read.
+ */
+public class MoveJournal {
+
+	///////////////////////////
+	// Non-static attributes //
+	///////////////////////////
+
+	// The weight changes: the position of the relation (pos for an attack, -(pos+1) for a support), and its weight before the change.
+	int[] positions;
+	double[] oldWeights;
+	int numEntries;
+	// The checkpoints (a stack): the number of weight changes before each one.
+	int[] checkpointEntries;
+	// The state of the cached semantics at every checkpoint.
+	long[] groundedVersions;
+	int[] numPendingSeeds;
+	boolean[] statusIssueDirty;
+	long[] quadVersions;
+	int[] numPendingAtts;
+	int[] numPendingSupps;
+	boolean[] pendingOverflow;
+	boolean[] evalIssueDirty;
+	int numCheckpoints;
+
+
+	////////////////////////
+	// Non-static methods //
+	////////////////////////
+
+	/**
+	 * Constructor (1/1).
+	 * Creates an empty journal.
+	 */
+	public MoveJournal() {
+		positions = new int[16];
+		oldWeights = new double[16];
+		numEntries = 0;
+		checkpointEntries = new int[4];
+		groundedVersions = new long[4];
+		numPendingSeeds = new int[4];
+		statusIssueDirty = new boolean[4];
+		quadVersions = new long[4];
+		numPendingAtts = new int[4];
+		numPendingSupps = new int[4];
+		pendingOverflow = new boolean[4];
+		evalIssueDirty = new boolean[4];
+		numCheckpoints = 0;
+	}
+
+	/**
+	 * Returns true iff the weight changes must be recorded (i.e. there is at least one open checkpoint).
+	 */
+	public boolean isRecording() {
+		return numCheckpoints > 0;
+	}
+
+	/**
+	 * Records that the weight of the attack (if "isAttack" is true) or of the support at position "pos" was "oldWeight" before its change.
+	 */
+	void record(boolean isAttack, int pos, double oldWeight) {
+		if (numEntries == positions.length) {
+			positions = Arrays.copyOf(positions, 2 * numEntries);
+			oldWeights = Arrays.copyOf(oldWeights, 2 * numEntries);
+		}
+		positions[numEntries] = isAttack ? pos : -(pos + 1);
+		oldWeights[numEntries] = oldWeight;
+		numEntries++;
+	}
+
+	/**
+	 * Opens a new checkpoint (the state of the semantics is then filled in by the Gameboard), and returns its number.
+	 */
+	int push() {
+		if (numCheckpoints == checkpointEntries.length) {
+			int newLength = 2 * numCheckpoints;
+			checkpointEntries = Arrays.copyOf(checkpointEntries, newLength);
+			groundedVersions = Arrays.copyOf(groundedVersions, newLength);
+			numPendingSeeds = Arrays.copyOf(numPendingSeeds, newLength);
+			statusIssueDirty = Arrays.copyOf(statusIssueDirty, newLength);
+			quadVersions = Arrays.copyOf(quadVersions, newLength);
+			numPendingAtts = Arrays.copyOf(numPendingAtts, newLength);
+			numPendingSupps = Arrays.copyOf(numPendingSupps, newLength);
+			pendingOverflow = Arrays.copyOf(pendingOverflow, newLength);
+			evalIssueDirty = Arrays.copyOf(evalIssueDirty, newLength);
+		}
+		checkpointEntries[numCheckpoints] = numEntries;
+		return numCheckpoints++;
+	}
+
+	/**
+	 * Closes the checkpoint "checkpoint" and all the checkpoints opened after it. If no checkpoint remains open,
+	 * then the recorded weight changes are forgotten.
+	 */
+	void pop(int checkpoint) {
+		numCheckpoints = checkpoint;
+		if (numCheckpoints == 0) {
+			numEntries = 0;
+		}
+	}
+
+	/**
+	 * Forgets all the checkpoints and all the recorded weight changes.
+	 */
+	public void clear() {
+		numCheckpoints = 0;
+		numEntries = 0;
+	}
+
+	/**
+	 * Returns the number of open checkpoints.
+	 */
+	public int getNumCheckpoints() {
+		return numCheckpoints;
+	}
+
+}
@@ -0,0 +1,116 @@
+package debateComponents;
+
+/**
+ * This class contains the arguments of a Gameboard which can reach the issue through present relations (attacks and supports whose weight is > 0).
+ * They are found by a single backward breadth-first search from the issue, in time O(|Args| + |Relations|).
+ * A move (a relation which appears or disappears) only changes the evaluation of the attacked/supported argument, and then the evaluations
+ * of the arguments it reaches. So the move is surely "neutral" (it doesn't change the issue's QUAD evaluation) if that argument cannot reach
+ * the issue, or if its own evaluation doesn't change (which is checked locally, see "isNeutralIfFlipped").
+ * The strategies use it to discard the neutral moves, and only the other moves are evaluated exactly (see Gameboard.issueEvalIfPlayed).
+ * Class used in the EUMAS'15 work.
+ */
+public class NeutralMoveFilter {
+
+	///////////////////////////
+	// Non-static attributes //
+	///////////////////////////
+
+	/**
+	 * The evaluations the filter was computed from.
+	 */
+	final QuadEvaluation evaluation;
+	/**
+	 * True iff the argument can reach the issue through present relations (the issue itself included).
+	 */
+	final boolean[] reachesIssue;
+
+
+	////////////////////
+	// Static methods //
+	////////////////////
+
+	/**
+	 * This method computes the filter of the Gameboard "gb", from its current evaluations "evaluation"
+	 * (the present relations are those of the evaluations, see QuadEvaluation.attLive and QuadEvaluation.suppLive).
+	 */
+	public static NeutralMoveFilter compute(Gameboard gb, QuadEvaluation evaluation) {
+		RelationIndex index = gb.getRelationIndex();
+		NeutralMoveFilter filter = new NeutralMoveFilter(evaluation);
+		boolean[] reachesIssue = filter.reachesIssue;
+		if (reachesIssue.length == 0) return filter;
+		int[] queue = new int[reachesIssue.length];
+		int head = 0;
+		int tail = 0;
+		// We remind that the issue is argument 0.
+		reachesIssue[0] = true;
+		queue[tail++] = 0;
+		while (head < tail) {
+			int currArg = queue[head++];
+			for (int k=index.attInStart[currArg]; k<index.attInStart[currArg+1]; k++) {
+				int att = index.attInRel[k];
+				if (evaluation.attLive[att] && !reachesIssue[index.attFirst[att]]) {
+					reachesIssue[index.attFirst[att]] = true;
+					queue[tail++] = index.attFirst[att];
+				}
+			}
+			for (int k=index.suppInStart[currArg]; k<index.suppInStart[currArg+1]; k++) {
+				int supp = index.suppInRel[k];
+				if (evaluation.suppLive[supp] && !reachesIssue[index.suppFirst[supp]]) {
+					reachesIssue[index.suppFirst[supp]] = true;
+					queue[tail++] = index.suppFirst[supp];
+				}
+			}
+		}
+		return filter;
+	}
+
+
+	////////////////////////
+	// Non-static methods //
+	////////////////////////
+
+	/**
+	 * Constructor (1/1).
+	 * Creates a filter where no argument reaches the issue.
+	 */
+	public NeutralMoveFilter(QuadEvaluation evaluation) {
+		this.evaluation = evaluation;
+		reachesIssue = new boolean[evaluation.evals.length];
+	}
+
+	/**
+	 * Returns true iff the argument "argID" can reach the issue through present relations.
+	 */
+	public boolean reachesIssue(int argID) {
+		return reachesIssue[argID];
+	}
+
+	/**
+	 * Returns the change of the evaluation of the argument attacked (supported) by the attack "flipAtt" (the support "flipSupp"),
+	 * if that relation was flipped (see QuadEvaluation.compute(gb, flipAtt, flipSupp); one of them is -1).
+	 * Returns NaN if the flip changes the topological order (e.g. it closes a cycle): then the change cannot be computed locally.
+	 */
+	public double localChangeIfFlipped(Gameboard gb, int flipAtt, int flipSupp) {
+		RelationIndex index = gb.getRelationIndex();
+		int secondArg = (flipAtt != -1) ? index.attSecond[flipAtt] : index.suppSecond[flipSupp];
+		if (!evaluation.canPropagate(index, flipAtt, flipSupp)) return Double.NaN;
+		return QuadEvaluation.evaluate(index, evaluation.attLive, evaluation.suppLive, evaluation.evals, secondArg, flipAtt, flipSupp)
+				- evaluation.evals[secondArg];
+	}
+
+	/**
+	 * Returns true iff flipping the attack "flipAtt" (or the support "flipSupp") surely leaves the issue's evaluation unchanged:
+	 * (1) The attacked (supported) argument cannot reach the issue. The flipped relation doesn't matter here: a path from the argument
+	 *     to the issue which goes through that relation goes through the argument again, so it can be shortened.
+	 * (2) Or the flip keeps the topological order valid, and the evaluation of the attacked (supported) argument doesn't change
+	 *     (if the cycles have been solved, the issue's evaluation is then unchanged up to the tolerance of the iteration).
+	 */
+	public boolean isNeutralIfFlipped(Gameboard gb, int flipAtt, int flipSupp) {
+		RelationIndex index = gb.getRelationIndex();
+		int secondArg = (flipAtt != -1) ? index.attSecond[flipAtt] : index.suppSecond[flipSupp];
+		if (!reachesIssue[secondArg]) return true;
+		// The comparison is false if the change cannot be computed locally (NaN).
+		return (localChangeIfFlipped(gb, flipAtt, flipSupp) == 0);
+	}
+
+}
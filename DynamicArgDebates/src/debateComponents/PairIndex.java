@@ -0,0 +1,114 @@
+package debateComponents;
+
+import java.util.Arrays;
+
+/**
+ * This class maps a pair of arguments (first, second) to the position of the relation (first, second) in a Gameboard's ArrayList
+ * of attacks (or of supports), in constant time.
+ * (1) For small Gameboards (at most DENSE_LIMIT arguments), the positions are kept in a dense numArgs x numArgs matrix.
+ * (2) Otherwise, they are kept in an open-addressing hash table (linear probing), whose keys are the pairs packed in a long.
+ * If the same pair appears more than once, the first position is kept (as the older list-scanning code did).
+ */
+public class PairIndex {
+
+	///////////////////////
+	// Static attributes //
+	///////////////////////
+
+	// The maximum number of arguments for which the dense matrix is used.
+	static int DENSE_LIMIT = 128;
+	// The key of an empty slot of the hash table (a pair always has non-negative arguments).
+	private static final long EMPTY = -1L;
+
+
+	///////////////////////////
+	// Non-static attributes //
+	///////////////////////////
+
+	private final int numArgs;
+	// The dense matrix: matrix[first * numArgs + second] is the position (or -1). It's null if the hash table is used.
+	private final int[] matrix;
+	// The hash table: the keys, and the positions (the length is a power of 2).
+	private final long[] keys;
+	private final int[] values;
+	private final int mask;
+
+
+	////////////////////////
+	// Non-static methods //
+	////////////////////////
+
+	/**
+	 * Constructor (1/1).
+	 * Builds the index of the relations whose arguments are first[i] and second[i] (i is the position of the relation).
+	 */
+	public PairIndex(int numArgs, int[] first, int[] second) {
+		this.numArgs = numArgs;
+		if (numArgs <= DENSE_LIMIT) {
+			matrix = new int[numArgs * numArgs];
+			Arrays.fill(matrix, -1);
+			for (int i=0; i<first.length; i++) {
+				int cell = first[i] * numArgs + second[i];
+				if (matrix[cell] == -1) matrix[cell] = i;
+			}
+			keys = null;
+			values = null;
+			mask = 0;
+		} else {
+			matrix = null;
+			// At most half of the slots are used.
+			int capacity = 2;
+			while (capacity < 2 * first.length) {
+				capacity *= 2;
+			}
+			keys = new long[capacity];
+			Arrays.fill(keys, EMPTY);
+			values = new int[capacity];
+			mask = capacity - 1;
+			for (int i=0; i<first.length; i++) {
+				long key = pack(first[i], second[i]);
+				int slot = slotOf(key);
+				while (keys[slot] != EMPTY && keys[slot] != key) {
+					slot = (slot + 1) & mask;
+				}
+				if (keys[slot] == EMPTY) {
+					keys[slot] = key;
+					values[slot] = i;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the position of the relation (first, second), or -1 if there is no such relation.
+	 */
+	public int get(int first, int second) {
+		if (first < 0 || first >= numArgs || second < 0 || second >= numArgs) return -1;
+		if (matrix != null) {
+			return matrix[first * numArgs + second];
+		}
+		long key = pack(first, second);
+		int slot = slotOf(key);
+		while (keys[slot] != EMPTY) {
+			if (keys[slot] == key) return values[slot];
+			slot = (slot + 1) & mask;
+		}
+		return -1;
+	}
+
+	/**
+	 * Packs the pair (first, second) in a long.
+	 */
+	private static long pack(int first, int second) {
+		return (((long) first) << 32) | (second & 0xFFFFFFFFL);
+	}
+
+	/**
+	 * Returns the first slot of the key (the bits of the key are mixed, so that consecutive pairs are spread over the table).
+	 */
+	private int slotOf(long key) {
+		long h = key * 0x9E3779B97F4A7C15L;
+		return (int) (h ^ (h >>> 32)) & mask;
+	}
+
+}
@@ -0,0 +1,625 @@
+package debateComponents;
+
+/**
+ * This class contains the QUAD evaluations of the arguments of a Gameboard.
+ * It also contains the (static) engine which computes them: the arguments are evaluated in a topological order
+ * of the graph of the (positive) attacks and supports, so that every argument is evaluated exactly once, after all its attackers and supporters.
+ * The order is computed by Kahn's algorithm: an argument enters the order when all the arguments attacking or supporting it have entered it.
+ * The arguments which belong to a cycle, or which can be reached from a cycle, never enter the order, and they remain non-evaluated (-10),
+ * exactly as with the older fixpoint computation.
+ * After a relation has appeared or disappeared (i.e. its weight has crossed 0), the evaluations can be updated incrementally (see "update"):
+ * only the attacked/supported argument and the arguments downstream of it are re-evaluated, and the propagation stops
+ * wherever a re-evaluated argument keeps the same value.
+ * The evaluations are computed by a primitive kernel ("evaluate"), which reads the relations from the CSR arrays of the RelationIndex,
+ * their presence from the boolean arrays "attLive" and "suppLive" (a snapshot of the signs of the weights, kept up-to-date by "update"),
+ * and the evaluations from a double array; the evaluated arguments are known explicitly (see "isEvaluated"), so the -10 value
+ * is only used when the evaluations are copied to the Argument objects. The kernel doesn't allocate anything.
+ * On a Gameboard with cycles, the arguments which remain non-evaluated can also be given a value by a fixed-point iteration (see "solveCycles"),
+ * which repeatedly applies the kernel to them until their values stop changing.
+ * Class used in the EUMAS'15 work.
+ */
+public class QuadEvaluation {
+
+	///////////////////////
+	// Static attributes //
+	///////////////////////
+
+	// The evaluation of a non-evaluated argument (see Argument.getEval).
+	public static final double NOT_EVALUATED = -10;
+	// The "nil" value of vAtt (resp. vSupp), when an argument has no attackers (supporters), or when all of them have an evaluation of 0.
+	static final double NIL = -10;
+	// Every argument has a base score of 0.5.
+	static final double BASE_SCORE = 0.5;
+	// The fixed-point iteration (see "solveCycles") stops when no value changes by more than TOLERANCE during an iteration,
+	// or after MAX_ITERATIONS iterations (the iteration is not guaranteed to converge on every cyclic graph).
+	static double TOLERANCE = 1e-9;
+	static int MAX_ITERATIONS = 1000;
+
+
+	///////////////////////////
+	// Non-static attributes //
+	///////////////////////////
+
+	/**
+	 * The evaluation of every argument (indexed by argID), or NOT_EVALUATED.
+	 */
+	final double[] evals;
+	/**
+	 * For every attack (resp. support), indexed by its position in gb.attacks (gb.supports): true iff it's "present" (its weight is positive).
+	 */
+	final boolean[] attLive;
+	final boolean[] suppLive;
+	/**
+	 * The evaluated arguments, in the topological order in which they were evaluated (only the first "numOrdered" elements are used).
+	 */
+	final int[] order;
+	int numOrdered;
+	// The position of every argument in "order" (or -1, if the argument isn't evaluated).
+	final int[] orderPos;
+	// The arguments whose evaluation was changed by the last call to "update" (only the first "numChanged" elements are used).
+	final int[] changed;
+	int numChanged;
+	// Scratch arrays of "update": a binary heap of arguments (ordered by their position in "order"),
+	// and the arguments which are in the heap (inHeap[a] == currentStamp).
+	private int[] heap;
+	private int[] inHeap;
+	private int currentStamp;
+	/**
+	 * True iff the non-evaluated arguments have been given a value by "solveCycles".
+	 * The number of iterations it made, and whether it converged (within TOLERANCE) before MAX_ITERATIONS.
+	 */
+	boolean solved;
+	int iterations;
+	boolean converged;
+
+
+	////////////////////
+	// Static methods //
+	////////////////////
+
+	/**
+	 * This method computes the QUAD evaluations of all the arguments of "gb".
+	 * (1) Every argument keeps a counter of the (positive) attacks and supports it receives from non-evaluated arguments.
+	 * (2) The arguments whose counter is 0 are put in a queue; when an argument leaves the queue, it's evaluated,
+	 *     and the counters of the arguments it attacks or supports are decreased.
+	 * Every relation is visited a constant number of times, so (apart from the evaluations themselves) the computation is linear.
+	 */
+	public static QuadEvaluation compute(Gameboard gb) {
+		return compute(gb, -1, -1);
+	}
+
+	/**
+	 * Same as "compute(gb)", but the attack at position "flipAtt" (in gb.attacks) and the support at position "flipSupp" (in gb.supports)
+	 * are taken as "present" if their weight is <= 0, and as "absent" if their weight is > 0 (-1 means that no attack, or no support, is flipped).
+	 * This gives the evaluations of the Gameboard after a move which would change the sign of that relation, without touching the Gameboard.
+	 */
+	public static QuadEvaluation compute(Gameboard gb, int flipAtt, int flipSupp) {
+		RelationIndex index = gb.getRelationIndex();
+		int numArgs = index.numArgs;
+		QuadEvaluation evaluation = new QuadEvaluation(numArgs, index.numAttacks, index.numSupports);
+		// Take the snapshot of the relations' signs (with the flipped relations).
+		boolean[] attLive = evaluation.attLive;
+		boolean[] suppLive = evaluation.suppLive;
+		for (int i=0; i<attLive.length; i++) {
+			attLive[i] = (index.attWeight[i] > 0) != (i == flipAtt);
+		}
+		for (int i=0; i<suppLive.length; i++) {
+			suppLive[i] = (index.suppWeight[i] > 0) != (i == flipSupp);
+		}
+		evaluation.order(index, true);
+		return evaluation;
+	}
+
+	/**
+	 * This method (the kernel) computes the QUAD evaluation of the argument "argID", from the evaluations ("evals") of its attackers and supporters,
+	 * which must all be evaluated. The relations are read from "index", and their presence from "attLive" and "suppLive", except for the attack
+	 * at position "flipAtt" and the support at position "flipSupp", which are flipped (-1 means that no relation is flipped).
+	 * It's the same computation as Gameboard.evaluateArgQUAD (the attackers and supporters are taken in the same order, and the same
+	 * elementary steps are used: "attackEffect", "supportEffect", "combine"), so the results are exactly the same.
+	 */
+	static double evaluate(RelationIndex index, boolean[] attLive, boolean[] suppLive, double[] evals, int argID, int flipAtt, int flipSupp) {
+		// vAtt gets a "nil" value if either (1) the argument has no attackers, or (2) all its attackers have eval 0.
+		double vAtt = NIL;
+		for (int k=index.attInStart[argID]; k<index.attInStart[argID+1]; k++) {
+			int currAtt = index.attInRel[k];
+			if ((attLive[currAtt] != (currAtt == flipAtt)) && evals[index.attFirst[currAtt]] != 0.0) {
+				vAtt = BASE_SCORE;
+				break;
+			}
+		}
+		if (vAtt != NIL) {
+			// Start from the base score, and repeatedly compute the "effect" of every attack.
+			for (int k=index.attInStart[argID]; k<index.attInStart[argID+1]; k++) {
+				int currAtt = index.attInRel[k];
+				if (attLive[currAtt] != (currAtt == flipAtt)) {
+					vAtt = attackEffect(vAtt, evals[index.attFirst[currAtt]]);
+				}
+			}
+		}
+		// vSupp gets a "nil" value if either (1) the argument has no supporters, or (2) all its supporters have eval 0.
+		double vSupp = NIL;
+		for (int k=index.suppInStart[argID]; k<index.suppInStart[argID+1]; k++) {
+			int currSupp = index.suppInRel[k];
+			if ((suppLive[currSupp] != (currSupp == flipSupp)) && evals[index.suppFirst[currSupp]] != 0.0) {
+				vSupp = BASE_SCORE;
+				break;
+			}
+		}
+		if (vSupp != NIL) {
+			// Start from the base score, and repeatedly compute the "effect" of every support.
+			for (int k=index.suppInStart[argID]; k<index.suppInStart[argID+1]; k++) {
+				int currSupp = index.suppInRel[k];
+				if (suppLive[currSupp] != (currSupp == flipSupp)) {
+					vSupp = supportEffect(vSupp, evals[index.suppFirst[currSupp]]);
+				}
+			}
+		}
+		return combine(vAtt, vSupp);
+	}
+
+	/**
+	 * Returns the new value of vAtt, after the effect of an attacker whose evaluation is "attackerEval".
+	 */
+	static double attackEffect(double vAtt, double attackerEval) {
+		return vAtt - (vAtt * attackerEval);
+	}
+
+	/**
+	 * Returns the new value of vSupp, after the effect of a supporter whose evaluation is "supporterEval".
+	 */
+	static double supportEffect(double vSupp, double supporterEval) {
+		return vSupp + ((1 - vSupp) * supporterEval);
+	}
+
+	/**
+	 * Returns the final evaluation of an argument, from vAtt and vSupp (either of which may be NIL).
+	 */
+	static double combine(double vAtt, double vSupp) {
+		if ((vAtt == NIL) && (vSupp != NIL)) {
+			return vSupp;
+		} else if ((vAtt != NIL) && (vSupp == NIL)) {
+			return vAtt;
+		} else if ((vAtt == NIL) && (vSupp == NIL)) {
+			return BASE_SCORE;
+		} else {
+			// Balance attack and support.
+			return (vAtt + vSupp) / 2;
+		}
+	}
+
+
+	////////////////////////
+	// Non-static methods //
+	////////////////////////
+
+	/**
+	 * Constructor (1/2).
+	 * Creates an evaluation where no argument is evaluated, and no relation is present.
+	 */
+	public QuadEvaluation(int numArgs, int numAttacks, int numSupports) {
+		attLive = new boolean[numAttacks];
+		suppLive = new boolean[numSupports];
+		evals = new double[numArgs];
+		for (int a=0; a<numArgs; a++) {
+			evals[a] = NOT_EVALUATED;
+		}
+		order = new int[numArgs];
+		numOrdered = 0;
+		orderPos = new int[numArgs];
+		for (int a=0; a<numArgs; a++) {
+			orderPos[a] = -1;
+		}
+		changed = new int[numArgs];
+		numChanged = 0;
+	}
+
+	/**
+	 * Constructor (2/2).
+	 * Creates a copy of the evaluation "other" (which can then be updated, without changing "other").
+	 */
+	public QuadEvaluation(QuadEvaluation other) {
+		attLive = other.attLive.clone();
+		suppLive = other.suppLive.clone();
+		evals = other.evals.clone();
+		order = other.order.clone();
+		numOrdered = other.numOrdered;
+		orderPos = other.orderPos.clone();
+		changed = new int[evals.length];
+		numChanged = 0;
+		solved = other.solved;
+		iterations = other.iterations;
+		converged = other.converged;
+	}
+
+	/**
+	 * This method computes the topological order of the arguments ("order", "numOrdered" and "orderPos"), from the relations which are
+	 * present in "attLive" and "suppLive", by Kahn's algorithm (see "compute"). If "evaluate" is true, then every argument is also evaluated
+	 * when it enters the order; otherwise the evaluations are not changed.
+	 */
+	private void order(RelationIndex index, boolean evaluate) {
+		int numArgs = evals.length;
+		numOrdered = 0;
+		// The number of (positive) relations that every argument receives from non-evaluated arguments.
+		int[] pending = new int[numArgs];
+		for (int a=0; a<numArgs; a++) {
+			for (int k=index.attInStart[a]; k<index.attInStart[a+1]; k++) {
+				if (attLive[index.attInRel[k]]) pending[a]++;
+			}
+			for (int k=index.suppInStart[a]; k<index.suppInStart[a+1]; k++) {
+				if (suppLive[index.suppInRel[k]]) pending[a]++;
+			}
+			if (pending[a] == 0) {
+				order[numOrdered++] = a;
+			}
+		}
+		// The "order" array is also the queue: the arguments before position "head" have already been evaluated.
+		int head = 0;
+		while (head < numOrdered) {
+			int currArg = order[head++];
+			if (evaluate) {
+				evals[currArg] = evaluate(index, attLive, suppLive, evals, currArg, -1, -1);
+			}
+			for (int k=index.attOutStart[currArg]; k<index.attOutStart[currArg+1]; k++) {
+				int currAtt = index.attOutRel[k];
+				if (!attLive[currAtt]) continue;
+				int target = index.attSecond[currAtt];
+				pending[target]--;
+				if (pending[target] == 0) order[numOrdered++] = target;
+			}
+			for (int k=index.suppOutStart[currArg]; k<index.suppOutStart[currArg+1]; k++) {
+				int currSupp = index.suppOutRel[k];
+				if (!suppLive[currSupp]) continue;
+				int target = index.suppSecond[currSupp];
+				pending[target]--;
+				if (pending[target] == 0) order[numOrdered++] = target;
+			}
+		}
+		for (int a=0; a<numArgs; a++) {
+			orderPos[a] = -1;
+		}
+		for (int i=0; i<numOrdered; i++) {
+			orderPos[order[i]] = i;
+		}
+	}
+
+	/**
+	 * This method updates the evaluations after the attack at position "flipAtt" (in gb.attacks), or the support at position "flipSupp"
+	 * (in gb.supports), has appeared or disappeared (one of them is -1). The arguments whose evaluation changes are put in "changed".
+	 * It starts from the attacked/supported argument and goes downstream, following the (present) attacks and supports, in the topological order:
+	 * an argument is re-evaluated only once, after all its re-evaluated attackers and supporters, and the arguments downstream of it
+	 * are only visited if its value has changed (early cutoff). On a tree, only the path towards the issue is visited.
+	 * The update is only possible if the set of evaluated arguments and the topological order remain valid:
+	 * (1) A disappearing relation must attack/support an evaluated argument.
+	 * (2) An appearing relation must go from an evaluated argument to an evaluated argument which comes after it in the order.
+	 * Otherwise (e.g. if the relation closes a cycle, or breaks one), the method returns false and nothing is changed:
+	 * the evaluations must then be recomputed (with "compute").
+	 * If the cycles are solved (see "solveCycles"), then the update is always possible, but it goes component by component
+	 * (see "updateComponents"), when the Gameboard has cycles or when the relation changes the topological order.
+	 */
+	public boolean update(Gameboard gb, int flipAtt, int flipSupp) {
+		numChanged = 0;
+		RelationIndex index = gb.getRelationIndex();
+		int secondArg = (flipAtt != -1) ? index.attSecond[flipAtt] : index.suppSecond[flipSupp];
+		if (hasSolvedCycles() || !canPropagate(index, flipAtt, flipSupp)) {
+			if (!solved) return false;
+			updateComponents(index, flipAtt, flipSupp);
+			return true;
+		}
+		if (heap == null) {
+			heap = new int[evals.length];
+			inHeap = new int[evals.length];
+		}
+		if (flipAtt != -1) {
+			attLive[flipAtt] = !attLive[flipAtt];
+		} else {
+			suppLive[flipSupp] = !suppLive[flipSupp];
+		}
+		currentStamp++;
+		numChanged = propagate(index, evals, secondArg, -1, -1, heap, inHeap, currentStamp, changed);
+		return true;
+	}
+
+	/**
+	 * This method returns the evaluation that the argument "argID" would have, if the attack at position "flipAtt" and the support at position "flipSupp"
+	 * were flipped (see "compute(gb, flipAtt, flipSupp)"; one of them is -1). Neither the Gameboard nor this object are changed, so it can be called
+	 * concurrently: the current evaluations are copied, and only the arguments downstream of the flipped relation are re-evaluated (as in "update").
+	 * If the flipped relation changes the topological order, then all the arguments are evaluated again.
+	 * If the cycles are solved (see "solveCycles"), then a copy of this object is updated (see "update").
+	 * Method used in the EUMAS'15 work.
+	 */
+	public double evalIfFlipped(Gameboard gb, int flipAtt, int flipSupp, int argID) {
+		RelationIndex index = gb.getRelationIndex();
+		if (solved && (hasSolvedCycles() || !canPropagate(index, flipAtt, flipSupp))) {
+			// The change may reach (or create) the arguments of the cycles: update a copy, component by component.
+			QuadEvaluation newEvaluation = new QuadEvaluation(this);
+			newEvaluation.updateComponents(index, flipAtt, flipSupp);
+			return newEvaluation.evals[argID];
+		}
+		if (!canPropagate(index, flipAtt, flipSupp)) {
+			return compute(gb, flipAtt, flipSupp).evals[argID];
+		}
+		int secondArg = (flipAtt != -1) ? index.attSecond[flipAtt] : index.suppSecond[flipSupp];
+		double[] newEvals = evals.clone();
+		propagate(index, newEvals, secondArg, flipAtt, flipSupp, new int[evals.length], new int[evals.length], 1, null);
+		return newEvals[argID];
+	}
+
+	/**
+	 * This method gives a value to the arguments which are not evaluated (those in, or downstream of, a cycle).
+	 * The graph of the (present) relations is decomposed into strongly connected components (see ComponentDecomposition), which are
+	 * evaluated in a topological order of the condensation, so that every component is evaluated after all the components upstream of it:
+	 * (1) A component without cycle (a single argument) is simply evaluated by the kernel.
+	 * (2) A cyclic component is evaluated by a fixed-point iteration: the kernel is repeatedly applied to its arguments (Gauss-Seidel: every
+	 *     new value is used immediately), until no value changes by more than TOLERANCE, or until MAX_ITERATIONS iterations have been made.
+	 * Only the components which contain non-evaluated arguments are visited (the others are upstream of every cycle).
+	 * The iterations of a cyclic component always start from the base score: because of the "nil" rules, the kernel isn't continuous,
+	 * so a cycle may have several fixed points, and the one which is reached must not depend on the evaluations before the last move.
+	 * On a Gameboard without cycles, nothing is done. Returns true iff all the iterations have converged.
+	 * Method used in the EUMAS'15 work.
+	 */
+	public boolean solveCycles(RelationIndex index) {
+		int numArgs = evals.length;
+		solved = true;
+		iterations = 0;
+		converged = true;
+		if (numOrdered == numArgs) return true;
+		ComponentDecomposition scc = ComponentDecomposition.compute(index, attLive, suppLive);
+		boolean[] dirty = new boolean[scc.numComponents];
+		for (int a=0; a<numArgs; a++) {
+			if (orderPos[a] != -1) continue;
+			dirty[scc.comp[a]] = true;
+		}
+		evaluateComponents(index, scc, dirty, null);
+		return converged;
+	}
+
+	/**
+	 * This method updates the evaluations (whose cycles are solved) after the attack "flipAtt" or the support "flipSupp" (one of them is -1)
+	 * has appeared or disappeared. The topological order is computed again (in linear time). The evaluations of the arguments which are not
+	 * downstream of the attacked/supported argument cannot change, so only the arguments downstream of it are decomposed into components,
+	 * and they're evaluated again (see "evaluateComponents"), the cyclic components starting from the base score (see "solveCycles").
+	 * The arguments whose evaluation changes are put in "changed".
+	 */
+	void updateComponents(RelationIndex index, int flipAtt, int flipSupp) {
+		int secondArg = (flipAtt != -1) ? index.attSecond[flipAtt] : index.suppSecond[flipSupp];
+		if (flipAtt != -1) {
+			attLive[flipAtt] = !attLive[flipAtt];
+		} else {
+			suppLive[flipSupp] = !suppLive[flipSupp];
+		}
+		order(index, false);
+		// Find the arguments downstream of "secondArg" (following the present relations).
+		int numArgs = evals.length;
+		int[] region = new int[numArgs];
+		int[] regionPos = new int[numArgs];
+		boolean[] inRegion = new boolean[numArgs];
+		int regionSize = 0;
+		region[regionSize++] = secondArg;
+		inRegion[secondArg] = true;
+		for (int i=0; i<regionSize; i++) {
+			int currArg = region[i];
+			regionPos[currArg] = i;
+			for (int k=index.attOutStart[currArg]; k<index.attOutStart[currArg+1]; k++) {
+				int currAtt = index.attOutRel[k];
+				int target = index.attSecond[currAtt];
+				if (attLive[currAtt] && !inRegion[target]) {
+					inRegion[target] = true;
+					region[regionSize++] = target;
+				}
+			}
+			for (int k=index.suppOutStart[currArg]; k<index.suppOutStart[currArg+1]; k++) {
+				int currSupp = index.suppOutRel[k];
+				int target = index.suppSecond[currSupp];
+				if (suppLive[currSupp] && !inRegion[target]) {
+					inRegion[target] = true;
+					region[regionSize++] = target;
+				}
+			}
+		}
+		ComponentDecomposition scc = ComponentDecomposition.compute(index, attLive, suppLive, region, regionSize, regionPos);
+		boolean[] dirty = new boolean[scc.numComponents];
+		dirty[scc.getComponent(secondArg)] = true;
+		numChanged = evaluateComponents(index, scc, dirty, changed);
+	}
+
+	/**
+	 * This method evaluates the "dirty" components of "scc", in topological order (see "solveCycles"). When the evaluation of an argument
+	 * changes, the components it attacks or supports become dirty too; so the components downstream of an unchanged component are not visited.
+	 * The arguments whose evaluation changes are put in "changedArgs" (if it's not null), and their number is returned.
+	 */
+	private int evaluateComponents(RelationIndex index, ComponentDecomposition scc, boolean[] dirty, int[] changedArgs) {
+		iterations = 0;
+		converged = true;
+		int numChangedArgs = 0;
+		double[] before = new double[evals.length];
+		for (int c=0; c<scc.numComponents; c++) {
+			if (!dirty[c]) continue;
+			int from = scc.compStart[c];
+			int to = scc.compStart[c+1];
+			for (int i=from; i<to; i++) {
+				before[scc.compArgs[i]] = evals[scc.compArgs[i]];
+			}
+			if (!scc.cyclic[c]) {
+				int currArg = scc.compArgs[from];
+				evals[currArg] = evaluate(index, attLive, suppLive, evals, currArg, -1, -1);
+			} else {
+				// Start from the base score (see "solveCycles").
+				for (int i=from; i<to; i++) {
+					evals[scc.compArgs[i]] = BASE_SCORE;
+				}
+				int compIterations = 0;
+				boolean compConverged = false;
+				while (!compConverged && compIterations < MAX_ITERATIONS) {
+					compIterations++;
+					double maxChange = 0;
+					for (int i=from; i<to; i++) {
+						int currArg = scc.compArgs[i];
+						double newEval = evaluate(index, attLive, suppLive, evals, currArg, -1, -1);
+						maxChange = Math.max(maxChange, Math.abs(newEval - evals[currArg]));
+						evals[currArg] = newEval;
+					}
+					compConverged = (maxChange <= TOLERANCE);
+				}
+				iterations = Math.max(iterations, compIterations);
+				converged = converged && compConverged;
+			}
+			// The components downstream of a changed argument must be evaluated again.
+			for (int i=from; i<to; i++) {
+				int currArg = scc.compArgs[i];
+				if (evals[currArg] == before[currArg]) continue;
+				if (changedArgs != null) changedArgs[numChangedArgs] = currArg;
+				numChangedArgs++;
+				for (int k=index.attOutStart[currArg]; k<index.attOutStart[currArg+1]; k++) {
+					int currAtt = index.attOutRel[k];
+					if (attLive[currAtt]) dirty[scc.getComponent(index.attSecond[currAtt])] = true;
+				}
+				for (int k=index.suppOutStart[currArg]; k<index.suppOutStart[currArg+1]; k++) {
+					int currSupp = index.suppOutRel[k];
+					if (suppLive[currSupp]) dirty[scc.getComponent(index.suppSecond[currSupp])] = true;
+				}
+			}
+		}
+		return numChangedArgs;
+	}
+
+	/**
+	 * Returns true iff the evaluations can be propagated from the attacked/supported argument, if the attack "flipAtt"
+	 * or the support "flipSupp" (one of them is -1) appeared or disappeared (see "update").
+	 */
+	boolean canPropagate(RelationIndex index, int flipAtt, int flipSupp) {
+		int firstArg = (flipAtt != -1) ? index.attFirst[flipAtt] : index.suppFirst[flipSupp];
+		int secondArg = (flipAtt != -1) ? index.attSecond[flipAtt] : index.suppSecond[flipSupp];
+		boolean becomesLive = (flipAtt != -1) ? !attLive[flipAtt] : !suppLive[flipSupp];
+		return canPropagate(firstArg, secondArg, becomesLive);
+	}
+
+	/**
+	 * Returns true iff the evaluations can be propagated from "secondArg", after the relation (firstArg, secondArg) has appeared ("isLive" is true)
+	 * or disappeared (see "update").
+	 */
+	boolean canPropagate(int firstArg, int secondArg, boolean isLive) {
+		if (orderPos[secondArg] == -1) return false;
+		if (isLive && (orderPos[firstArg] == -1 || orderPos[firstArg] >= orderPos[secondArg])) return false;
+		return true;
+	}
+
+	/**
+	 * This method re-evaluates the argument "seed" and the arguments downstream of it, in the topological order, with early cutoff (see "update").
+	 * The evaluations are read from, and written to, "vals". The relations at positions "flipAtt" and "flipSupp" are flipped.
+	 * "heap" and "inHeap" are scratch arrays (an argument is in the heap iff inHeap[a] == stamp).
+	 * The changed arguments are put in "changedArgs" (if it's not null), and their number is returned.
+	 */
+	private int propagate(RelationIndex index, double[] vals, int seed, int flipAtt, int flipSupp, int[] heap, int[] inHeap, int stamp, int[] changedArgs) {
+		int numChangedArgs = 0;
+		int heapSize = 0;
+		heapSize = push(heap, heapSize, seed);
+		inHeap[seed] = stamp;
+		while (heapSize > 0) {
+			int currArg = heap[0];
+			heapSize = pop(heap, heapSize);
+			double newEval = evaluate(index, attLive, suppLive, vals, currArg, flipAtt, flipSupp);
+			if (newEval == vals[currArg]) continue;
+			vals[currArg] = newEval;
+			if (changedArgs != null) changedArgs[numChangedArgs] = currArg;
+			numChangedArgs++;
+			// The arguments attacked or supported by currArg must be re-evaluated (if they are evaluated: the others depend on a cycle).
+			for (int k=index.attOutStart[currArg]; k<index.attOutStart[currArg+1]; k++) {
+				int currAtt = index.attOutRel[k];
+				int target = index.attSecond[currAtt];
+				if ((attLive[currAtt] != (currAtt == flipAtt)) && orderPos[target] != -1 && inHeap[target] != stamp) {
+					heapSize = push(heap, heapSize, target);
+					inHeap[target] = stamp;
+				}
+			}
+			for (int k=index.suppOutStart[currArg]; k<index.suppOutStart[currArg+1]; k++) {
+				int currSupp = index.suppOutRel[k];
+				int target = index.suppSecond[currSupp];
+				if ((suppLive[currSupp] != (currSupp == flipSupp)) && orderPos[target] != -1 && inHeap[target] != stamp) {
+					heapSize = push(heap, heapSize, target);
+					inHeap[target] = stamp;
+				}
+			}
+		}
+		return numChangedArgs;
+	}
+
+	/**
+	 * Adds the argument "a" to the heap (of size "heapSize"), and returns the new size of the heap.
+	 */
+	private int push(int[] heap, int heapSize, int a) {
+		int i = heapSize;
+		while (i > 0) {
+			int parent = (i - 1) >>> 1;
+			if (orderPos[heap[parent]] <= orderPos[a]) break;
+			heap[i] = heap[parent];
+			i = parent;
+		}
+		heap[i] = a;
+		return heapSize + 1;
+	}
+
+	/**
+	 * Removes the first argument (the one which comes first in the order) from the heap (of size "heapSize"), and returns the new size of the heap.
+	 */
+	private int pop(int[] heap, int heapSize) {
+		int last = heap[--heapSize];
+		int i = 0;
+		while (true) {
+			int child = 2*i + 1;
+			if (child >= heapSize) break;
+			if (child+1 < heapSize && orderPos[heap[child+1]] < orderPos[heap[child]]) child++;
+			if (orderPos[heap[child]] >= orderPos[last]) break;
+			heap[i] = heap[child];
+			i = child;
+		}
+		heap[i] = last;
+		return heapSize;
+	}
+
+	/**
+	 * Returns the evaluation of the argument "argID" (or NOT_EVALUATED).
+	 */
+	public double getEval(int argID) {
+		return hasValue(argID) ? evals[argID] : NOT_EVALUATED;
+	}
+
+	/**
+	 * Returns true iff the argument "argID" has a value: either it's evaluated, or it has been given one by "solveCycles".
+	 */
+	public boolean hasValue(int argID) {
+		return (orderPos[argID] != -1) || solved;
+	}
+
+	/**
+	 * Returns true iff some arguments have been given a value by "solveCycles" (i.e. the Gameboard has cycles, and they have been solved).
+	 */
+	public boolean hasSolvedCycles() {
+		return solved && (numOrdered < evals.length);
+	}
+
+	/**
+	 * Returns the largest number of iterations made on a component by the last call to "solveCycles" (or "update"), and whether they all converged.
+	 */
+	public int getIterations() {
+		return iterations;
+	}
+
+	public boolean hasConverged() {
+		return converged;
+	}
+
+	/**
+	 * Returns true iff the argument "argID" is evaluated (i.e. it's neither in a cycle, nor reachable from a cycle).
+	 */
+	public boolean isEvaluated(int argID) {
+		return orderPos[argID] != -1;
+	}
+
+	/**
+	 * Returns the number of evaluated arguments.
+	 */
+	public int size() {
+		return numOrdered;
+	}
+
+}
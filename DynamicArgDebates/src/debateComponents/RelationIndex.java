@@ -0,0 +1,284 @@
+package debateComponents;
+
+import java.util.ArrayList;
+
+/**
+ * This class contains a compact adjacency index of a Gameboard's attacks and supports (CSR-style int arrays).
+ * For every argument, it gives direct access to:
+ * (1) the attacks it receives (its attackers), and the attacks it makes (the arguments it attacks),
+ * (2) the supports it receives (its supporters), and the supports it makes (the arguments it supports),
+ * without scanning the whole "attacks" and "supports" ArrayLists of the Gameboard.
+ * The index stores positions in these ArrayLists, and it only has to be rebuilt when the topology changes (i.e. when arguments, attacks or supports are added).
+ * Together with the weights, it's the struct-of-arrays storage of the Gameboard: the weight of every attack (resp. support) is kept in "attWeight"
+ * (resp. "suppWeight"), the evaluation of every argument in "argEval", and the Attack, Support and Argument objects are views over these arrays
+ * (see BinaryRelation.getWeight and Argument.getEval).
+ * There is no array of the kinds of the relations: the attacks and the supports are kept in separate arrays.
+ * So the semantics engines scan primitive arrays, without dereferencing the relation objects.
+ * The relations of every argument are kept in the same order as in the ArrayLists, so that the semantics engines
+ * visit them exactly as the older (list-scanning) code did.
+ */
+public class RelationIndex {
+
+	/**
+	 * The number of arguments, attacks and supports that the index was built for.
+	 */
+	public final int numArgs;
+	public final int numAttacks;
+	public final int numSupports;
+
+	// The two arguments of every attack (resp. support), indexed by the position of the relation in the Gameboard's ArrayList.
+	final int[] attFirst;
+	final int[] attSecond;
+	final int[] suppFirst;
+	final int[] suppSecond;
+	// The weight of every attack (resp. support), indexed by the position of the relation (changed by the moves, through the relation objects).
+	final double[] attWeight;
+	final double[] suppWeight;
+	// The evaluation of every argument, indexed by argID (the Argument objects are views over this array, see Gameboard.getRelationIndex).
+	final double[] argEval;
+
+	// The attacks received by argument a are: attInRel[attInStart[a]], ..., attInRel[attInStart[a+1]-1].
+	final int[] attInStart;
+	final int[] attInRel;
+	// The attacks made by argument a are: attOutRel[attOutStart[a]], ..., attOutRel[attOutStart[a+1]-1].
+	final int[] attOutStart;
+	final int[] attOutRel;
+	// The supports received by argument a are: suppInRel[suppInStart[a]], ..., suppInRel[suppInStart[a+1]-1].
+	final int[] suppInStart;
+	final int[] suppInRel;
+	// The supports made by argument a are: suppOutRel[suppOutStart[a]], ..., suppOutRel[suppOutStart[a+1]-1].
+	final int[] suppOutStart;
+	final int[] suppOutRel;
+
+	// The position of the attack (resp. support) between two arguments, in constant time (see "findAttack", "findSupport").
+	private final PairIndex attPairs;
+	private final PairIndex suppPairs;
+
+	// The arguments which can reach the issue (argument 0) through a path of attacks (whatever their weights), including the issue itself.
+	// They are computed on demand, and they remain valid as long as the topology doesn't change (i.e. as long as this index is used).
+	private int[] issueAncestors;
+	// The position of every argument in "issueAncestors" (or -1, if the argument cannot reach the issue).
+	private int[] issueAncestorPos;
+
+
+	/**
+	 * Constructor (1/3).
+	 * Builds the index of the relations in "attacks" and "supports", for a Gameboard whose arguments are "arguments".
+	 */
+	public RelationIndex(ArrayList<Argument> arguments, ArrayList<Attack> attacks, ArrayList<Support> supports) {
+		numArgs = arguments.size();
+		numAttacks = attacks.size();
+		numSupports = supports.size();
+
+		// Copy the relations' endpoints into primitive arrays.
+		attFirst = new int[numAttacks];
+		attSecond = new int[numAttacks];
+		for (int i=0; i<numAttacks; i++) {
+			attFirst[i] = attacks.get(i).firstArg;
+			attSecond[i] = attacks.get(i).secondArg;
+		}
+		suppFirst = new int[numSupports];
+		suppSecond = new int[numSupports];
+		for (int i=0; i<numSupports; i++) {
+			suppFirst[i] = supports.get(i).firstArg;
+			suppSecond[i] = supports.get(i).secondArg;
+		}
+		// Move the weights into the index (the relations become views over these arrays).
+		attWeight = bindWeights(attacks);
+		suppWeight = bindWeights(supports);
+		argEval = new double[numArgs];
+
+		// Build the four adjacency lists.
+		attInStart = new int[numArgs+1];
+		attInRel = new int[numAttacks];
+		fill(attSecond, attInStart, attInRel);
+		attOutStart = new int[numArgs+1];
+		attOutRel = new int[numAttacks];
+		fill(attFirst, attOutStart, attOutRel);
+		suppInStart = new int[numArgs+1];
+		suppInRel = new int[numSupports];
+		fill(suppSecond, suppInStart, suppInRel);
+		suppOutStart = new int[numArgs+1];
+		suppOutRel = new int[numSupports];
+		fill(suppFirst, suppOutStart, suppOutRel);
+
+		// Build the pair indexes.
+		attPairs = new PairIndex(numArgs, attFirst, attSecond);
+		suppPairs = new PairIndex(numArgs, suppFirst, suppSecond);
+	}
+
+	/**
+	 * Constructor (2/3).
+	 * Builds the index of the relations in "attacks" and "supports", which have the same arguments (in the same order) as the relations indexed
+	 * by "topology" (see "hasSameRelations"). This is the case for the Gameboards of the agent types, which replicate the
+	 * relations of a reference Gameboard: the topology (the arrays of the arguments of the relations, the adjacency lists and the pair indexes)
+	 * never changes, so it's shared with "topology" instead of being rebuilt, and only the weights and the evaluations are the Gameboard's own.
+	 */
+	public RelationIndex(RelationIndex topology, ArrayList<Attack> attacks, ArrayList<Support> supports) {
+		this(topology, bindWeights(attacks), bindWeights(supports));
+	}
+
+	/**
+	 * Constructor (3/3).
+	 * Builds an index which shares the topology of "topology", where the weights of the attacks (resp. supports) are "attWeight" ("suppWeight").
+	 * No relation object is bound to the weights: this is the index of a Gameboard overlaying a reference (see Gameboard.isOverlay),
+	 * which shares the relation objects of the reference, and whose weights are those of the reference with its own deltas.
+	 */
+	RelationIndex(RelationIndex topology, double[] attWeight, double[] suppWeight) {
+		numArgs = topology.numArgs;
+		numAttacks = topology.numAttacks;
+		numSupports = topology.numSupports;
+		attFirst = topology.attFirst;
+		attSecond = topology.attSecond;
+		suppFirst = topology.suppFirst;
+		suppSecond = topology.suppSecond;
+		attInStart = topology.attInStart;
+		attInRel = topology.attInRel;
+		attOutStart = topology.attOutStart;
+		attOutRel = topology.attOutRel;
+		suppInStart = topology.suppInStart;
+		suppInRel = topology.suppInRel;
+		suppOutStart = topology.suppOutStart;
+		suppOutRel = topology.suppOutRel;
+		attPairs = topology.attPairs;
+		suppPairs = topology.suppPairs;
+		// The ancestors of the issue only depend on the topology: they're computed once, on the reference's index, and shared
+		// (otherwise every Gameboard sharing the topology would compute them again on demand).
+		issueAncestors = topology.getIssueAncestors();
+		issueAncestorPos = topology.issueAncestorPos;
+		// The Gameboard's own part: the weights and the evaluations.
+		this.attWeight = attWeight;
+		this.suppWeight = suppWeight;
+		argEval = new double[numArgs];
+	}
+
+	/**
+	 * This method moves the weights of the relations "rels" into a new array (indexed by the positions of the relations), and returns it.
+	 * The relations become views over this array.
+	 */
+	private static double[] bindWeights(ArrayList<? extends BinaryRelation> rels) {
+		double[] weights = new double[rels.size()];
+		for (int i=0; i<rels.size(); i++) {
+			rels.get(i).bindWeight(weights, i);
+		}
+		return weights;
+	}
+
+	/**
+	 * Returns true iff the relations in "attacks" and "supports" (of a Gameboard having "numArgs" arguments) have the same arguments,
+	 * in the same order, as the relations of this index (then the index of their Gameboard can share the topology of this one).
+	 */
+	public boolean hasSameRelations(int numArgs, ArrayList<Attack> attacks, ArrayList<Support> supports) {
+		if (numArgs != this.numArgs || attacks.size() != numAttacks || supports.size() != numSupports) return false;
+		for (int i=0; i<numAttacks; i++) {
+			if (attacks.get(i).firstArg != attFirst[i] || attacks.get(i).secondArg != attSecond[i]) return false;
+		}
+		for (int i=0; i<numSupports; i++) {
+			if (supports.get(i).firstArg != suppFirst[i] || supports.get(i).secondArg != suppSecond[i]) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * This method fills a CSR adjacency list ("start", "rel"), where the relation i is put in the list of argument "endpoint[i]".
+	 * It's a counting sort, so the relations of every argument keep their original order.
+	 */
+	private static void fill(int[] endpoint, int[] start, int[] rel) {
+		// First, count how many relations every argument has.
+		for (int i=0; i<endpoint.length; i++) {
+			start[endpoint[i]+1]++;
+		}
+		for (int a=0; a<start.length-1; a++) {
+			start[a+1] += start[a];
+		}
+		// Then, put every relation in its place.
+		int[] next = new int[start.length-1];
+		for (int a=0; a<next.length; a++) {
+			next[a] = start[a];
+		}
+		for (int i=0; i<endpoint.length; i++) {
+			rel[next[endpoint[i]]++] = i;
+		}
+	}
+
+	/**
+	 * Returns true iff the index was built for a Gameboard having (currently) these numbers of arguments, attacks and supports.
+	 * Since arguments and relations are never removed from a Gameboard (only their weights change), this is enough to know
+	 * whether the index is still consistent with the Gameboard's ArrayLists.
+	 */
+	public boolean isConsistentWith(int numArgs, int numAttacks, int numSupports) {
+		return (this.numArgs == numArgs && this.numAttacks == numAttacks && this.numSupports == numSupports);
+	}
+
+	/**
+	 * Returns the arguments which can reach the issue (argument 0) through a path of attacks, starting with the issue itself.
+	 * Every attack is taken into account (whatever its weight), so the result only depends on the topology of the Gameboard.
+	 * The set is closed under attackers: the attackers of an argument in the set are also in the set.
+	 */
+	public int[] getIssueAncestors() {
+		if (issueAncestors == null) {
+			computeIssueAncestors();
+		}
+		return issueAncestors;
+	}
+
+	/**
+	 * Returns the position of the argument "argID" in the array returned by "getIssueAncestors()",
+	 * or -1 if the argument cannot reach the issue through a path of attacks.
+	 */
+	public int getIssueAncestorPos(int argID) {
+		if (issueAncestors == null) {
+			computeIssueAncestors();
+		}
+		return issueAncestorPos[argID];
+	}
+
+	/**
+	 * This method computes the arguments which can reach the issue, with a backward breadth-first search over the attacks.
+	 */
+	private void computeIssueAncestors() {
+		int[] pos = new int[numArgs];
+		for (int a=0; a<numArgs; a++) {
+			pos[a] = -1;
+		}
+		int[] found = new int[numArgs];
+		int numFound = 0;
+		if (numArgs > 0) {
+			pos[0] = 0;
+			found[numFound++] = 0;
+		}
+		for (int i=0; i<numFound; i++) {
+			int currArg = found[i];
+			for (int k=attInStart[currArg]; k<attInStart[currArg+1]; k++) {
+				int attacker = attFirst[attInRel[k]];
+				if (pos[attacker] == -1) {
+					pos[attacker] = numFound;
+					found[numFound++] = attacker;
+				}
+			}
+		}
+		int[] ancestors = new int[numFound];
+		for (int i=0; i<numFound; i++) {
+			ancestors[i] = found[i];
+		}
+		issueAncestorPos = pos;
+		issueAncestors = ancestors;
+	}
+
+	/**
+	 * Returns the position (in the Gameboard's "attacks" ArrayList) of the attack (first, second), or -1 if there is no such attack.
+	 * It's a constant-time lookup (see PairIndex).
+	 */
+	public int findAttack(int first, int second) {
+		return attPairs.get(first, second);
+	}
+
+	/**
+	 * Returns the position (in the Gameboard's "supports" ArrayList) of the support (first, second), or -1 if there is no such support.
+	 * It's a constant-time lookup (see PairIndex).
+	 */
+	public int findSupport(int first, int second) {
+		return suppPairs.get(first, second);
+	}
+
+}
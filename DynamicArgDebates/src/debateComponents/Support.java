@@ -1,5 +1,4 @@
 package debateComponents;
-import java.util.ArrayList;
 
 
 /**
@@ -9,8 +8,8 @@ import java.util.ArrayList;
  */
 public class Support extends BinaryRelation {
 	
-	public Support(int first, int second, double w, ArrayList<Argument> args) {
-		super(first, second, w, args);
+	public Support(int first, int second, double w) {
+		super(first, second, w);
 	}
 	
 }
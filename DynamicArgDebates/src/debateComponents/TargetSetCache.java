@@ -0,0 +1,151 @@
+package debateComponents;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class contains a bounded cache of the target sets of a Gameboard, for the configurations already met.
+ * A configuration is identified by its signature (see TargetSetSearch.signature): the status of the issue, and the signs of
+ * the modifiable attacks and of the attacks which can reach the issue. When a Gameboard is reset and debated again and again
+ * (e.g. in the CLIMA'14 experiments), the same configurations keep coming back, and their target sets are then simply looked up.
+ * When the cache is full, the least recently used configuration is forgotten.
+ * The numbers of hits and misses are kept, so that the capacity can be chosen accordingly.
+ * Class used in the CLIMA'14 work.
+ */
+public class TargetSetCache {
+
+	///////////////////////
+	// Static attributes //
+	///////////////////////
+
+	// The default number of configurations kept by a cache.
+	static int DEFAULT_CAPACITY = 256;
+
+
+	///////////////////////////
+	// Non-static attributes //
+	///////////////////////////
+
+	/**
+	 * The maximum number of configurations kept by the cache.
+	 */
+	public final int capacity;
+	// The target sets of every configuration, in least-recently-used order.
+	private final LinkedHashMap<Signature, List<List<Attack>>> entries;
+	private long hits;
+	private long misses;
+
+
+	////////////////////////
+	// Non-static methods //
+	////////////////////////
+
+	/**
+	 * Constructor (1/2).
+	 * Creates a cache of DEFAULT_CAPACITY configurations.
+	 */
+	public TargetSetCache() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Constructor (2/2).
+	 * Creates a cache of "capacity" configurations.
+	 */
+	public TargetSetCache(final int capacity) {
+		this.capacity = capacity;
+		entries = new LinkedHashMap<Signature, List<List<Attack>>>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Signature, List<List<Attack>>> eldest) {
+				return size() > capacity;
+			}
+		};
+	}
+
+	/**
+	 * Returns the target sets of the configuration having this signature, or null if they are not in the cache.
+	 * The returned list is shared with the cache (it's unmodifiable, see TargetSetSearch.unmodifiable).
+	 */
+	public List<List<Attack>> get(long[] signature) {
+		List<List<Attack>> tsets = entries.get(new Signature(signature));
+		if (tsets == null) {
+			misses++;
+		} else {
+			hits++;
+		}
+		return tsets;
+	}
+
+	/**
+	 * Puts the target sets of the configuration having this signature in the cache.
+	 */
+	public void put(long[] signature, List<List<Attack>> tsets) {
+		if (capacity > 0) {
+			entries.put(new Signature(signature), tsets);
+		}
+	}
+
+	/**
+	 * Forgets all the configurations (the statistics are kept).
+	 */
+	public void clear() {
+		entries.clear();
+	}
+
+	/**
+	 * Returns the number of configurations currently in the cache.
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * Returns the number of lookups which found the target sets in the cache.
+	 */
+	public long getHits() {
+		return hits;
+	}
+
+	/**
+	 * Returns the number of lookups which didn't find the target sets in the cache.
+	 */
+	public long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * This function prints the statistics of the cache.
+	 */
+	public void printStats() {
+		System.out.println("Target set cache: " + entries.size() + "/" + capacity + " configurations, " + hits + " hits, " + misses + " misses.");
+	}
+
+
+	/**
+	 * A signature, used as a key of the cache (the arrays of Java don't compare their contents).
+	 */
+	private static final class Signature {
+
+		private final long[] words;
+		private final int hash;
+
+		Signature(long[] words) {
+			this.words = words;
+			hash = Arrays.hashCode(words);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return (obj instanceof Signature) && Arrays.equals(words, ((Signature) obj).words);
+		}
+	}
+
+}
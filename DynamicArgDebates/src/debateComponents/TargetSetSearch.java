@@ -0,0 +1,410 @@
+package debateComponents;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * This class contains the search for the (minimal) target sets of a Gameboard.
+ * A target set is a minimal set of modifiable attacks whose "sign change" (see BinaryRelation.changeWeightSign) changes the status of the issue.
+ * The candidates are generated by increasing size (size 1, then size 2, and so on), so the target sets are found from the smallest to the biggest.
+ * The candidates of a given size are generated by a depth-first search, which never extends a combination
+ * that already contains a found target set: the supersets of target sets are never generated.
+ * Before the search, the modifiable attacks which can never change the status of the issue are dropped (see "isRelevant"):
+ * such an attack belongs to no target set (removing it from a set changing the status gives a smaller set changing the status),
+ * so the search over the remaining attacks (the "core") finds exactly the same target sets, in the same order.
+ * Every combination is a bit mask over the core attacks, stored in "numWords" longs (a single long when there are less than 64 core attacks).
+ * The weights of the Gameboard are never changed: the search works on a snapshot of the attacks' signs (which attacks are "present"),
+ * taken when the search is created. Every worker flips the signs of its combinations in its own copy of that snapshot,
+ * so the candidates of a level can be examined in parallel (with a ForkJoinPool), and an interrupted search leaves the Gameboard intact.
+ * Class used in the CLIMA'14 work.
+ */
+public class TargetSetSearch {
+
+	///////////////////////
+	// Static attributes //
+	///////////////////////
+
+	// Below this number of modifiable attacks, a level is searched by a single thread (the parallel search would cost more than it saves).
+	static int MIN_PARALLEL_MOD_ATTACKS = 12;
+	// The pool shared by all the parallel searches (created on demand).
+	private static ForkJoinPool sharedPool;
+	// If this is true, then the search is done over the core attacks only. If it's false, then it's done over all the modifiable attacks.
+	static boolean RELEVANCE_PRUNING = true;
+
+
+	///////////////////////////
+	// Non-static attributes //
+	///////////////////////////
+
+	/**
+	 * The Gameboard on which the target sets are searched.
+	 */
+	final Gameboard gb;
+	/**
+	 * The modifiable attacks.
+	 */
+	final ArrayList<Attack> modAttacks;
+	/**
+	 * The modifiable attacks over which the search is done, in the same order as in "modAttacks" (bit i of a mask refers to coreAttacks.get(i)).
+	 */
+	final ArrayList<Attack> coreAttacks;
+	/**
+	 * The status of the issue before any change.
+	 */
+	final boolean initialStatus;
+	/**
+	 * The number of longs of every mask.
+	 */
+	final int numWords;
+	// The position (in gb.attacks) of every core attack.
+	final int[] corePos;
+	// The snapshot: for every attack of the Gameboard (indexed by its position in gb.attacks), true iff its weight was > 0.
+	final boolean[] baseLive;
+	// The pool used to search the levels in parallel (null for a sequential search).
+	private final ForkJoinPool pool;
+	// The masks of the target sets found so far, one after the other (the i-th mask is in tsetMasks[i*numWords], ..., tsetMasks[(i+1)*numWords-1]).
+	// During the generation of a level, it's only read (by all the workers).
+	private long[] tsetMasks;
+	private int numTSets;
+	// The size of the last generated candidates.
+	private int currentSize;
+
+
+	////////////////////
+	// Static methods //
+	////////////////////
+
+	/**
+	 * Returns the ForkJoinPool shared by the parallel searches (it has one thread per available processor).
+	 */
+	static synchronized ForkJoinPool getSharedPool() {
+		if (sharedPool == null) {
+			sharedPool = new ForkJoinPool();
+		}
+		return sharedPool;
+	}
+
+	/**
+	 * Returns the signature of everything the target sets of "gb" (over "modAttacks") depend on:
+	 * (1) the status of the issue, the number of attacks and the number of modifiable attacks,
+	 * (2) for every modifiable attack, whether its sign can be changed (weight < 10000),
+	 * (3) for every attack which can reach the issue (whose attacked argument is an ancestor of the issue), whether it's present (weight > 0).
+	 * The other attacks can never change the status of the issue, so their weights are not part of the signature.
+	 * If two configurations of the same Gameboard have the same signature, then they have the same target sets.
+	 */
+	public static long[] signature(Gameboard gb, ArrayList<Attack> modAttacks) {
+		RelationIndex index = gb.getRelationIndex();
+		int numAttacks = gb.attacks.size();
+		int numBits = modAttacks.size() + numAttacks;
+		long[] sign = new long[3 + (numBits + 63) / 64];
+		sign[0] = gb.getStatusIssue() ? 1 : 0;
+		sign[1] = numAttacks;
+		sign[2] = modAttacks.size();
+		for (int i=0; i<modAttacks.size(); i++) {
+			if (gb.getWeight(modAttacks.get(i)) < 10000) {
+				sign[3 + (i >>> 6)] |= (1L << i);
+			}
+		}
+		for (int i=0; i<numAttacks; i++) {
+			int bit = modAttacks.size() + i;
+			if (index.getIssueAncestorPos(index.attSecond[i]) != -1 && index.attWeight[i] > 0) {
+				sign[3 + (bit >>> 6)] |= (1L << bit);
+			}
+		}
+		return sign;
+	}
+
+	/**
+	 * Returns an unmodifiable view of the target sets "tsets" (the target sets themselves are also unmodifiable),
+	 * so that they can be shared by the Gameboard, its cache and the strategies.
+	 */
+	static List<List<Attack>> unmodifiable(ArrayList<ArrayList<Attack>> tsets) {
+		ArrayList<List<Attack>> views = new ArrayList<List<Attack>>(tsets.size());
+		for (int i=0; i<tsets.size(); i++) {
+			views.add(Collections.unmodifiableList(tsets.get(i)));
+		}
+		return Collections.unmodifiableList(views);
+	}
+
+
+	////////////////////////
+	// Non-static methods //
+	////////////////////////
+
+	/**
+	 * Constructor (1/2).
+	 * Prepares the search of the target sets of "gb", over the modifiable attacks "modAttacks".
+	 * The levels are searched in parallel (in the shared pool) if there are at least MIN_PARALLEL_MOD_ATTACKS modifiable attacks.
+	 */
+	public TargetSetSearch(Gameboard gb, ArrayList<Attack> modAttacks) {
+		this(gb, modAttacks, (modAttacks.size() >= MIN_PARALLEL_MOD_ATTACKS) ? getSharedPool() : null);
+	}
+
+	/**
+	 * Constructor (2/2).
+	 * Prepares the search of the target sets of "gb", over the modifiable attacks "modAttacks".
+	 * The levels are searched in "pool", or by the calling thread if "pool" is null.
+	 */
+	public TargetSetSearch(Gameboard gb, ArrayList<Attack> modAttacks, ForkJoinPool pool) {
+		this.gb = gb;
+		this.modAttacks = modAttacks;
+		this.pool = pool;
+		initialStatus = gb.getStatusIssue();
+		// Take the snapshot of the weights.
+		RelationIndex index = gb.getRelationIndex();
+		baseLive = new boolean[gb.attacks.size()];
+		for (int i=0; i<baseLive.length; i++) {
+			baseLive[i] = (index.attWeight[i] > 0);
+		}
+		// The position of every modifiable attack (or -1 if its sign cannot be changed, see BinaryRelation.changeWeightSign: a weight >= 10000 never changes).
+		int[] modPos = new int[modAttacks.size()];
+		boolean[] uncertain = new boolean[gb.attacks.size()];
+		for (int i=0; i<modPos.length; i++) {
+			Attack att = modAttacks.get(i);
+			modPos[i] = (gb.getWeight(att) < 10000) ? gb.attackPos(att) : -1;
+			if (modPos[i] != -1) uncertain[modPos[i]] = true;
+		}
+		// Keep the relevant modifiable attacks.
+		byte[] robustLabels = RELEVANCE_PRUNING ? GroundedLabelling.computeRobust(gb, baseLive, uncertain) : null;
+		coreAttacks = new ArrayList<Attack>();
+		int[] pos = new int[modPos.length];
+		for (int i=0; i<modPos.length; i++) {
+			if (modPos[i] != -1 && (!RELEVANCE_PRUNING || isRelevant(index, robustLabels, modPos[i]))) {
+				pos[coreAttacks.size()] = modPos[i];
+				coreAttacks.add(modAttacks.get(i));
+			}
+		}
+		corePos = new int[coreAttacks.size()];
+		System.arraycopy(pos, 0, corePos, 0, corePos.length);
+		numWords = Math.max(1, (coreAttacks.size() + 63) / 64);
+		tsetMasks = new long[8 * numWords];
+		numTSets = 0;
+		currentSize = 0;
+		// The ancestors of the issue are computed lazily by the index: do it now, before the workers share it.
+		index.getIssueAncestors();
+	}
+
+	/**
+	 * Returns true iff the attack at position "att" (in gb.attacks) may change the status of the issue, for some signs of the modifiable attacks.
+	 * The attack is irrelevant in the following cases:
+	 * (1) The attacked argument cannot reach the issue through attacks.
+	 * (2) The issue is robustly labelled (IN in every configuration, or OUT in every configuration): then no set of attacks changes its status.
+	 * (3) The attacker is robustly OUT: an attack from an OUT argument doesn't change the grounded labelling.
+	 * (4) The attacked argument is robustly IN: whenever the attack is present, the attacker is OUT (so it's the same as case 3).
+	 */
+	private static boolean isRelevant(RelationIndex index, byte[] robustLabels, int att) {
+		if (index.getIssueAncestorPos(index.attSecond[att]) == -1) return false;
+		if (robustLabels[0] != GroundedLabelling.UNDEC) return false;
+		if (robustLabels[index.attFirst[att]] == GroundedLabelling.OUT) return false;
+		if (robustLabels[index.attSecond[att]] == GroundedLabelling.IN) return false;
+		return true;
+	}
+
+	/**
+	 * Returns true iff there are still candidates (of a bigger size) to generate.
+	 */
+	public boolean hasMoreLevels() {
+		return currentSize < coreAttacks.size();
+	}
+
+	/**
+	 * Generates all the candidates of the next size, and returns the target sets among them (in lexicographic order).
+	 * The returned list may be empty (there may be no target set of that size, but bigger ones).
+	 */
+	public ArrayList<ArrayList<Attack>> nextLevel() {
+		currentSize++;
+		ArrayList<ArrayList<Attack>> levelTSets = new ArrayList<ArrayList<Attack>>();
+		if (currentSize > coreAttacks.size()) {
+			return levelTSets;
+		}
+		// The first attack of a combination is chosen among attacks 0, ..., lastFirst.
+		int lastFirst = coreAttacks.size() - currentSize;
+		ArrayList<long[]> found;
+		if (pool == null) {
+			found = new LevelTask(0, lastFirst+1).compute();
+		} else {
+			found = pool.invoke(new LevelTask(0, lastFirst+1));
+		}
+		// The masks are merged in the order of their first attack, so the result doesn't depend on the number of threads.
+		for (int f=0; f<found.size(); f++) {
+			long[] tsetMask = found.get(f);
+			ArrayList<Attack> tset = new ArrayList<Attack>();
+			for (int i=0; i<coreAttacks.size(); i++) {
+				if ((tsetMask[i >>> 6] & (1L << i)) != 0) {
+					tset.add(coreAttacks.get(i));
+				}
+			}
+			levelTSets.add(tset);
+			if ((numTSets+1) * numWords > tsetMasks.length) {
+				long[] bigger = new long[2 * tsetMasks.length];
+				System.arraycopy(tsetMasks, 0, bigger, 0, numTSets * numWords);
+				tsetMasks = bigger;
+			}
+			System.arraycopy(tsetMask, 0, tsetMasks, numTSets * numWords, numWords);
+			numTSets++;
+		}
+		return levelTSets;
+	}
+
+	/**
+	 * Returns all the target sets, ordered from the smallest to the biggest.
+	 */
+	public ArrayList<ArrayList<Attack>> computeAll() {
+		ArrayList<ArrayList<Attack>> allTSets = new ArrayList<ArrayList<Attack>>();
+		while (hasMoreLevels()) {
+			allTSets.addAll(nextLevel());
+		}
+		return allTSets;
+	}
+
+	/**
+	 * Returns an iterator over the target sets, ordered from the smallest to the biggest (in the same order as "computeAll").
+	 * The levels are generated on demand: the candidates of size k+1 are only examined when the target sets of size k have all been returned.
+	 * The iterator uses the state of this search, so it must be the only way the search is used (no other iterator, no calls to "nextLevel").
+	 */
+	public Iterator<List<Attack>> iterator() {
+		return new Iterator<List<Attack>>() {
+			// The target sets of the last generated level, and the position of the next one to return.
+			private ArrayList<ArrayList<Attack>> level = new ArrayList<ArrayList<Attack>>();
+			private int next = 0;
+
+			@Override
+			public boolean hasNext() {
+				while (next == level.size() && hasMoreLevels()) {
+					level = nextLevel();
+					next = 0;
+				}
+				return next < level.size();
+			}
+
+			@Override
+			public List<Attack> next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return Collections.unmodifiableList(level.get(next++));
+			}
+
+			@Override
+			public void remove() {
+				throw new UnsupportedOperationException();
+			}
+		};
+	}
+
+
+	/**
+	 * This class examines the combinations (of the current size) whose first attack is in [firstFrom, firstTo).
+	 * A range of more than one first attack is split in two halves, which are examined in parallel.
+	 * The result is the list of the masks of the found target sets, in lexicographic order.
+	 */
+	private class LevelTask extends RecursiveTask<ArrayList<long[]>> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final int firstFrom;
+		private final int firstTo;
+
+		LevelTask(int firstFrom, int firstTo) {
+			this.firstFrom = firstFrom;
+			this.firstTo = firstTo;
+		}
+
+		@Override
+		protected ArrayList<long[]> compute() {
+			if (pool == null || firstTo - firstFrom <= 1) {
+				Worker worker = new Worker();
+				for (int i=firstFrom; i<firstTo; i++) {
+					worker.choose(0, i);
+				}
+				return worker.found;
+			}
+			int middle = (firstFrom + firstTo) >>> 1;
+			LevelTask left = new LevelTask(firstFrom, middle);
+			LevelTask right = new LevelTask(middle, firstTo);
+			left.fork();
+			ArrayList<long[]> rightFound = right.compute();
+			ArrayList<long[]> found = left.join();
+			found.addAll(rightFound);
+			return found;
+		}
+	}
+
+
+	/**
+	 * This class holds the state of a depth-first search over the combinations: the current combination, and its own copy of the snapshot.
+	 * Every task has its own worker, so the workers never share mutable data.
+	 */
+	private class Worker {
+
+		// The current combination (its mask, and the indices of its attacks).
+		private final long[] mask = new long[numWords];
+		private final int[] chosen = new int[currentSize];
+		// The snapshot, where the signs of the chosen attacks are flipped.
+		private final boolean[] live = baseLive.clone();
+		// The masks of the target sets found by this worker.
+		private final ArrayList<long[]> found = new ArrayList<long[]>();
+
+		/**
+		 * Chooses "i" as the attack number "depth" of the combination, and goes on with the depth-first search.
+		 * A combination is only extended if it doesn't contain a target set.
+		 */
+		void choose(int depth, int i) {
+			mask[i >>> 6] |= (1L << i);
+			chosen[depth] = i;
+			if (!containsTSet()) {
+				if (depth+1 == currentSize) {
+					examine();
+				} else {
+					// There must remain enough attacks to complete the combination.
+					int last = coreAttacks.size() - (currentSize - depth - 1);
+					for (int j=i+1; j<=last; j++) {
+						choose(depth+1, j);
+					}
+				}
+			}
+			mask[i >>> 6] &= ~(1L << i);
+		}
+
+		/**
+		 * Returns true iff the current combination contains (is a superset of) a target set found in the previous levels.
+		 * (The target sets of the current level have the same size, so they cannot be contained in another combination of the level.)
+		 */
+		private boolean containsTSet() {
+			for (int t=0; t<numTSets; t++) {
+				boolean isSuperset = true;
+				for (int w=0; w<numWords && isSuperset; w++) {
+					long tsetWord = tsetMasks[t*numWords + w];
+					isSuperset = ((mask[w] & tsetWord) == tsetWord);
+				}
+				if (isSuperset) return true;
+			}
+			return false;
+		}
+
+		/**
+		 * Checks whether the current combination changes the status of the issue, and in that case records it as a target set.
+		 */
+		private void examine() {
+			// Flip the signs of the chosen attacks in the snapshot, check the status of the issue, and restore the snapshot.
+			flipChosen();
+			boolean statusChanged = (initialStatus != GroundedLabelling.isIssueIn(gb, live));
+			flipChosen();
+			if (statusChanged) {
+				found.add(mask.clone());
+			}
+		}
+
+		private void flipChosen() {
+			for (int d=0; d<currentSize; d++) {
+				live[corePos[chosen[d]]] = !live[corePos[chosen[d]]];
+			}
+		}
+	}
+
+}
@@ -0,0 +1,181 @@
+package debateComponents;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This class contains the status of the issue for every combination of sign changes of the core attacks of a target-set search
+ * (see TargetSetSearch): bit m of "statuses" is set iff the issue is IN once the core attacks of the mask m have changed sign,
+ * starting from the configuration in which the table was built.
+ * A move which makes a core attack cross 0 leads to another combination of the same table. So the target sets of the new configuration
+ * are revised from the table, without evaluating the issue again (see "revise"): they are the minimal masks s such that the status
+ * of the combination (offset ^ s) differs from the current status, where "offset" is the mask of the core attacks which have changed sign
+ * since the table was built. After a reset, the offset is 0 again.
+ * The table remains valid as long as the attacks which can reach the issue, apart from the modifiable ones, keep their signs
+ * (the modifiable attacks which are not in the core never change the status of the issue, see TargetSetSearch.isRelevant).
+ * The table has 2^k entries (k core attacks), so it's only built when k <= MAX_CORE_ATTACKS. Building it examines every combination once,
+ * in Gray-code order (two consecutive combinations differ by one attack).
+ * Class used in the CLIMA'14 work.
+ */
+public class TargetSetTable {
+
+	///////////////////////
+	// Static attributes //
+	///////////////////////
+
+	// The largest number of core attacks for which a table is built (above, the target sets are searched again after every change).
+	static int MAX_CORE_ATTACKS = 10;
+
+
+	///////////////////////////
+	// Non-static attributes //
+	///////////////////////////
+
+	/**
+	 * The core attacks (bit i of a mask refers to coreAttacks.get(i)).
+	 */
+	final ArrayList<Attack> coreAttacks;
+	// The position (in gb.attacks) of every core attack, and its sign when the table was built.
+	private final int[] corePos;
+	private final boolean[] coreLive;
+	// The positions of the modifiable attacks (those whose sign can change), whose signs are not part of "baseSignature".
+	private final int[] modPos;
+	// The signature of the configuration in which the table was built (see TargetSetSearch.signature),
+	// without the status of the issue and without the signs of the modifiable attacks (see "key").
+	private final long[] baseSignature;
+	// Bit m is set iff the issue is IN in the combination m.
+	private final long[] statuses;
+
+
+	////////////////////////
+	// Non-static methods //
+	////////////////////////
+
+	/**
+	 * Constructor (1/1).
+	 * Builds the table of the search "search" (its core must have at most MAX_CORE_ATTACKS attacks), whose configuration has the signature "signature".
+	 */
+	public TargetSetTable(TargetSetSearch search, long[] signature) {
+		Gameboard gb = search.gb;
+		coreAttacks = search.coreAttacks;
+		corePos = search.corePos;
+		int numCore = coreAttacks.size();
+		coreLive = new boolean[numCore];
+		for (int i=0; i<numCore; i++) {
+			coreLive[i] = search.baseLive[corePos[i]];
+		}
+		int numMod = 0;
+		int[] pos = new int[search.modAttacks.size()];
+		for (int i=0; i<search.modAttacks.size(); i++) {
+			Attack att = search.modAttacks.get(i);
+			if (gb.getWeight(att) < 10000) pos[numMod++] = gb.attackPos(att);
+		}
+		modPos = Arrays.copyOf(pos, numMod);
+		baseSignature = key(signature, search.modAttacks.size());
+		// Examine all the combinations (combination g of the Gray code is g ^ (g >> 1)).
+		int numCombinations = 1 << numCore;
+		statuses = new long[(numCombinations + 63) / 64];
+		boolean[] live = search.baseLive.clone();
+		int mask = 0;
+		for (int g=0; g<numCombinations; g++) {
+			if (g > 0) {
+				int bit = Integer.numberOfTrailingZeros(g);
+				mask ^= (1 << bit);
+				live[corePos[bit]] = !live[corePos[bit]];
+			}
+			if (GroundedLabelling.isIssueIn(gb, live)) {
+				statuses[mask >>> 6] |= (1L << mask);
+			}
+		}
+	}
+
+	/**
+	 * Returns the signature "signature" (see TargetSetSearch.signature, with "numModAttacks" modifiable attacks), where the status of the issue
+	 * and the signs of the modifiable attacks are cleared: two configurations which only differ by the signs of the modifiable attacks
+	 * have the same key.
+	 */
+	private long[] key(long[] signature, int numModAttacks) {
+		long[] key = signature.clone();
+		key[0] = 0;
+		for (int i=0; i<modPos.length; i++) {
+			int bit = numModAttacks + modPos[i];
+			key[3 + (bit >>> 6)] &= ~(1L << bit);
+		}
+		return key;
+	}
+
+	/**
+	 * Returns the target sets of the configuration of "gb" whose signature is "signature" (see TargetSetSearch.signature),
+	 * in the same order as the search (by increasing size, then in lexicographic order), or null if the table doesn't cover the configuration.
+	 * No status of the issue is evaluated: the combinations are read in the table.
+	 */
+	public List<List<Attack>> revise(Gameboard gb, long[] signature) {
+		if (!Arrays.equals(key(signature, (int) signature[2]), baseSignature)) return null;
+		double[] attWeight = gb.getRelationIndex().attWeight;
+		int offset = 0;
+		for (int i=0; i<corePos.length; i++) {
+			if ((attWeight[corePos[i]] > 0) != coreLive[i]) offset |= (1 << i);
+		}
+		// The target sets change the status of the issue from its current value (which may be overridden, see Gameboard.overrideStatusIssue).
+		boolean status = (signature[0] == 1);
+		ArrayList<ArrayList<Attack>> tsets = new ArrayList<ArrayList<Attack>>();
+		int[] found = new int[8];
+		int numFound = 0;
+		for (int size=1; size<=corePos.length; size++) {
+			int numPrevious = numFound;
+			// The combinations of the current size, in lexicographic order (the same order as TargetSetSearch.nextLevel).
+			int[] chosen = new int[size];
+			int depth = 0;
+			chosen[0] = 0;
+			int mask = 0;
+			while (depth >= 0) {
+				if (chosen[depth] > corePos.length - (size - depth)) {
+					// No attack is left for this position: backtrack.
+					depth--;
+					if (depth >= 0) {
+						mask &= ~(1 << chosen[depth]);
+						chosen[depth]++;
+					}
+					continue;
+				}
+				mask |= (1 << chosen[depth]);
+				if (!containsTSet(mask, found, numPrevious) && depth+1 < size) {
+					depth++;
+					chosen[depth] = chosen[depth-1] + 1;
+					continue;
+				}
+				if (depth+1 == size && !containsTSet(mask, found, numPrevious) && isIn(offset ^ mask) != status) {
+					if (numFound == found.length) found = Arrays.copyOf(found, 2 * numFound);
+					found[numFound++] = mask;
+					ArrayList<Attack> tset = new ArrayList<Attack>();
+					for (int i=0; i<size; i++) {
+						tset.add(coreAttacks.get(chosen[i]));
+					}
+					tsets.add(tset);
+				}
+				mask &= ~(1 << chosen[depth]);
+				chosen[depth]++;
+			}
+		}
+		return TargetSetSearch.unmodifiable(tsets);
+	}
+
+	/**
+	 * Returns true iff the issue is IN in the combination "mask".
+	 */
+	private boolean isIn(int mask) {
+		return (statuses[mask >>> 6] & (1L << mask)) != 0;
+	}
+
+	/**
+	 * Returns true iff "mask" contains one of the first "numFound" masks of "found".
+	 */
+	private static boolean containsTSet(int mask, int[] found, int numFound) {
+		for (int t=0; t<numFound; t++) {
+			if ((mask & found[t]) == found[t]) return true;
+		}
+		return false;
+	}
+
+}
@@ -0,0 +1,143 @@
+package debateComponents;
+
+import java.util.Arrays;
+
+/**
+ * This class contains a set of topics (e.g. the topics of an argument, or the topics of expertise of an agent).
+ * The topics are interned to small ids: the topic "t1" has id 0, "t2" has id 1, etc. (see Expertise.topicName).
+ * The set is a bitset, kept in an array of longs (64 topics per word), so that the number of topics which two sets
+ * have in common is computed with a few "bitCount" calls, instead of comparing Strings.
+ * A set is filled when it's generated (see Expertise.generateSubsetTopics), and it doesn't change afterwards,
+ * so it can be shared (e.g. by the arguments of several Gameboards, see BeliefBase.replicaTopics).
+ */
+public class TopicSet {
+
+	///////////////////////////
+	// Non-static attributes //
+	///////////////////////////
+
+	// The bits of the topic ids which belong to the set.
+	private long[] words;
+	// The number of topics in the set.
+	private int size;
+
+
+	////////////////////
+	// Static methods //
+	////////////////////
+
+	/**
+	 * Returns the number of the topics of "expertise" which belong to "first" or to "second" (or to both).
+	 */
+	public static int countCommon(TopicSet expertise, TopicSet first, TopicSet second) {
+		int count = 0;
+		for (int i=0; i<expertise.words.length; i++) {
+			long union = 0;
+			if (i < first.words.length) union |= first.words[i];
+			if (i < second.words.length) union |= second.words[i];
+			count += Long.bitCount(expertise.words[i] & union);
+		}
+		return count;
+	}
+
+
+	////////////////////////
+	// Non-static methods //
+	////////////////////////
+
+	/**
+	 * Constructor (1/1).
+	 * Creates an empty set of topics.
+	 */
+	public TopicSet() {
+		words = new long[1];
+		size = 0;
+	}
+
+	/**
+	 * Adds the topic "topic" to the set (if it's not already there).
+	 */
+	void add(int topic) {
+		int w = topic >>> 6;
+		if (w >= words.length) {
+			words = Arrays.copyOf(words, w + 1);
+		}
+		long bit = 1L << (topic & 63);
+		if ((words[w] & bit) == 0) {
+			words[w] |= bit;
+			size++;
+		}
+	}
+
+	/**
+	 * Returns true iff the topic "topic" belongs to the set.
+	 */
+	public boolean contains(int topic) {
+		int w = topic >>> 6;
+		return w < words.length && (words[w] & (1L << (topic & 63))) != 0;
+	}
+
+	/**
+	 * Returns the number of topics in the set.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the i-th topic of the set (the topics are sorted by increasing id).
+	 */
+	public int get(int i) {
+		for (int w=0; w<words.length; w++) {
+			int numInWord = Long.bitCount(words[w]);
+			if (i < numInWord) {
+				long word = words[w];
+				for (int j=0; j<i; j++) {
+					word &= word - 1;
+				}
+				return (w << 6) + Long.numberOfTrailingZeros(word);
+			}
+			i -= numInWord;
+		}
+		throw new IndexOutOfBoundsException("Topic " + i + " of a set of " + size + " topics");
+	}
+
+	/**
+	 * Returns true iff "other" is a set of topics which contains the same topics as this one.
+	 */
+	public boolean equals(Object other) {
+		if (!(other instanceof TopicSet)) return false;
+		TopicSet set = (TopicSet) other;
+		if (set.size != size) return false;
+		for (int i=0; i<Math.max(words.length, set.words.length); i++) {
+			long word = (i < words.length) ? words[i] : 0;
+			long otherWord = (i < set.words.length) ? set.words[i] : 0;
+			if (word != otherWord) return false;
+		}
+		return true;
+	}
+	
+	/**
+	 * Returns a hash code consistent with "equals" (the empty words at the end of the array play no role).
+	 */
+	public int hashCode() {
+		long hash = 0;
+		for (int i=0; i<words.length; i++) {
+			hash ^= words[i] * (2 * i + 1);
+		}
+		return (int) (hash ^ (hash >>> 32));
+	}
+	
+	/**
+	 * Returns the names of the topics of the set, e.g. "t1 t3".
+	 */
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		for (int i=0; i<size; i++) {
+			if (i > 0) sb.append(' ');
+			sb.append(Expertise.topicName(get(i)));
+		}
+		return sb.toString();
+	}
+
+}
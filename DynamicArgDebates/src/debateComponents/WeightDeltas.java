@@ -0,0 +1,101 @@
+package debateComponents;
+
+import java.util.Arrays;
+
+/**
+ * This class contains the weights of an overlay Gameboard (the Gameboard of an agent) which differ from the weights of its base (see BeliefBase),
+ * indexed by the positions of the arguments (or of the attacks, or of the supports) in the base.
+ * The positions are kept sorted, so a weight is found by a binary search, and only the weights which differ from the base cost memory.
+ * Class used in the CLIMA'14 and EUMAS'15 work.
+ */
+class WeightDeltas {
+
+	///////////////////////////
+	// Non-static attributes //
+	///////////////////////////
+
+	// The positions whose weight differs from the base (sorted), and their weights: the first "size" cells are used.
+	private int[] positions;
+	private double[] weights;
+	private int size;
+
+
+	////////////////////////
+	// Non-static methods //
+	////////////////////////
+
+	/**
+	 * Constructor (1/1).
+	 * Creates an empty set of deltas (all the weights are those of the base).
+	 */
+	WeightDeltas() {
+		positions = new int[4];
+		weights = new double[4];
+		size = 0;
+	}
+
+	/**
+	 * Returns the weight at position "pos", whose weight in the base is "baseWeight".
+	 */
+	double get(int pos, double baseWeight) {
+		int i = Arrays.binarySearch(positions, 0, size, pos);
+		return (i >= 0) ? weights[i] : baseWeight;
+	}
+
+	/**
+	 * Sets the weight at position "pos" (whose weight in the base is "baseWeight") to "weight".
+	 * If "weight" is the weight of the base, then the delta is removed.
+	 */
+	void set(int pos, double weight, double baseWeight) {
+		int i = Arrays.binarySearch(positions, 0, size, pos);
+		if (weight == baseWeight) {
+			if (i >= 0) {
+				System.arraycopy(positions, i+1, positions, i, size-i-1);
+				System.arraycopy(weights, i+1, weights, i, size-i-1);
+				size--;
+			}
+			return;
+		}
+		if (i >= 0) {
+			weights[i] = weight;
+			return;
+		}
+		i = -i - 1;
+		if (size == positions.length) {
+			positions = Arrays.copyOf(positions, 2 * size);
+			weights = Arrays.copyOf(weights, 2 * size);
+		}
+		System.arraycopy(positions, i, positions, i+1, size-i);
+		System.arraycopy(weights, i, weights, i+1, size-i);
+		positions[i] = pos;
+		weights[i] = weight;
+		size++;
+	}
+
+	/**
+	 * Returns the number of weights which differ from the base.
+	 */
+	int size() {
+		return size;
+	}
+
+	/**
+	 * Releases the unused cells (once all the deltas of a new overlay have been set).
+	 */
+	void trim() {
+		positions = Arrays.copyOf(positions, Math.max(1, size));
+		weights = Arrays.copyOf(weights, Math.max(1, size));
+	}
+
+	/**
+	 * Returns a copy of the weights "baseWeights" of the base, where the deltas have been applied.
+	 */
+	double[] applyTo(double[] baseWeights) {
+		double[] applied = baseWeights.clone();
+		for (int i=0; i<size; i++) {
+			applied[positions[i]] = weights[i];
+		}
+		return applied;
+	}
+
+}
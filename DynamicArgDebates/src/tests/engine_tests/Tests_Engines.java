@@ -0,0 +1,818 @@
+package tests.engine_tests;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import debateComponents.Agent;
+import debateComponents.Argument;
+import debateComponents.Attack;
+import debateComponents.BinaryRelation;
+import debateComponents.ComponentDecomposition;
+import debateComponents.Configuration_CLIMA14;
+import debateComponents.Configuration_EUMAS15;
+import debateComponents.Expertise;
+import debateComponents.Gameboard;
+import debateComponents.GroundedLabelling;
+import debateComponents.Move;
+import debateComponents.NeutralMoveFilter;
+import debateComponents.PairIndex;
+import debateComponents.QuadEvaluation;
+import debateComponents.Support;
+import debateComponents.TargetSetCache;
+import debateComponents.TargetSetSearch;
+import debateComponents.TopicSet;
+
+/**
+ * This class checks the semantics engines of the Gameboard (the grounded labelling, the QUAD evaluations and the target sets)
+ * against straightforward reference implementations, which scan the "attacks" and "supports" ArrayLists (as the older code did).
+ * Random CLIMA'14 and EUMAS'15 configurations are generated, moves are played on their Gameboards, and after every move
+ * the results of the engines must be the same as the results of the reference implementations.
+ * The number of configurations of every kind can be given as the first argument (default: 20).
+ */
+public class Tests_Engines {
+
+	// The number of checks which have failed.
+	private static int numberOfFailures = 0;
+	// The pool used to check the parallel target-set search (whatever the number of modifiable attacks).
+	private static final ForkJoinPool pool = new ForkJoinPool(4);
+
+	/**
+	 * @param args
+	 */
+	public static void main(String[] args) {
+
+		final int numberOfRuns = (args.length > 0) ? Integer.parseInt(args[0]) : 20;
+
+		checkTargetSetCache();
+		checkPairIndex(20);
+		checkPairIndex(300);
+		checkTopicSets(150);
+		for (int h=0; h<numberOfRuns; h++) {
+			// Gameboards whose semantics have not been read yet.
+			for (int tree=0; tree<2; tree++) {
+				checkLazySemantics(new Gameboard(tree == 0, false, 1), (tree == 0) ? "new tree" : "new graph");
+			}
+			// CLIMA'14 configurations: a tree, and a graph.
+			for (int tree=0; tree<2; tree++) {
+				Configuration_CLIMA14 config = new Configuration_CLIMA14(tree == 0, false);
+				checkCLIMA14(config, (tree == 0) ? "CLIMA'14 tree" : "CLIMA'14 graph");
+			}
+			// EUMAS'15 configurations: a tree, and a graph (which may have cycles).
+			for (int tree=0; tree<2; tree++) {
+				Configuration_EUMAS15 config = new Configuration_EUMAS15(tree == 0, false, false);
+				checkEUMAS15(config, (tree == 0) ? "EUMAS'15 tree" : "EUMAS'15 graph");
+			}
+		}
+		// EUMAS'15 graphs, whose cycles are solved by the fixed-point iteration (see Gameboard.ITERATIVE_QUAD).
+		Gameboard.ITERATIVE_QUAD = true;
+		for (int h=0; h<numberOfRuns; h++) {
+			Configuration_EUMAS15 config = new Configuration_EUMAS15(false, false, false);
+			checkIterativeQuad(config, "EUMAS'15 graph (iterative)");
+		}
+		Gameboard.ITERATIVE_QUAD = false;
+
+		if (numberOfFailures == 0) {
+			System.out.println("All the engines agree with the reference implementations.");
+		} else {
+			System.out.println(numberOfFailures + " checks have failed.");
+			System.exit(1);
+		}
+	}
+
+	/**
+	 * This method checks that a new Gameboard has not evaluated its arguments yet (the semantics are computed when they are first read),
+	 * and that the first reads give the results of the reference implementations.
+	 */
+	private static void checkLazySemantics(Gameboard gb, String context) {
+		for (int i=0; i<gb.arguments.size(); i++) {
+			check(gb.arguments.get(i).getEval() == -10, context + ": argument " + i + " evaluated before the first read");
+		}
+		checkWeightStorage(gb, context);
+		checkQuad(gb, context);
+		checkGrounded(gb, context);
+	}
+
+	/**
+	 * This method checks that the relations of "gb" keep their weights when they're moved into the arrays of its index
+	 * (see BinaryRelation.bindWeight), and that changing the weight of a relation object changes the weight of that relation only.
+	 */
+	private static void checkWeightStorage(Gameboard gb, String context) {
+		String weights = weightsOf(gb);
+		gb.getRelationIndex();
+		check(weightsOf(gb).equals(weights), context + ": weights after the index is built");
+		for (int i=0; i<gb.attacks.size(); i++) {
+			Attack att = gb.attacks.get(i);
+			double weight = att.getWeight();
+			att.setWeight(weight + 1);
+			check(att.getWeight() == weight + 1 && gb.getAttack(att) == att, context + ": weight of attack " + i);
+			att.setWeight(weight);
+		}
+		check(weightsOf(gb).equals(weights), context + ": weights after changing every attack");
+	}
+
+	/**
+	 * This method plays random votes on the modifiable attacks of a CLIMA'14 configuration,
+	 * and checks the grounded semantics and the target sets after every vote (as well as the status predicted by the what-if query before the vote).
+	 */
+	private static void checkCLIMA14(Configuration_CLIMA14 config, String context) {
+		Gameboard gb = config.gb;
+		// The modifiable attacks are those which aren't fixed (weight +10000). Only these attacks are voted on,
+		// so that they remain the attacks which can be added/removed by the target sets.
+		ArrayList<Attack> attackMod = new ArrayList<Attack>();
+		for (int i=0; i<gb.attacks.size(); i++) {
+			if (gb.attacks.get(i).getWeight() < 10000) attackMod.add(gb.attacks.get(i));
+		}
+		checkGrounded(gb, context + " (initial)");
+		checkTargetSets(gb, attackMod, context + " (initial)");
+		checkRelationLookup(config.gb, config.agents, context);
+		checkImpacts(config, context);
+		if (attackMod.isEmpty()) return;
+		for (int mv=0; mv<20; mv++) {
+			Agent ag = config.agents.get((int) (Math.random() * config.agents.size()));
+			// The vote is made on the agent's own copy of the attack (a pass if the agent doesn't know it).
+			Attack att = ag.agentGB.getAttack(attackMod.get((int) (Math.random() * attackMod.size())));
+			boolean polarity = (Math.random() < 0.6);
+			String weights = weightsOf(gb);
+			boolean statusIfPlayed = gb.issueStatusIfPlayed(att, ag, polarity);
+			check(weightsOf(gb).equals(weights), context + " (move " + mv + "): weights after the what-if query");
+			gb.playMoveOnGB(att, ag, polarity, false);
+			check(gb.getStatusIssue() == statusIfPlayed, context + " (move " + mv + "): status of the issue predicted by the what-if query");
+			checkGrounded(gb, context + " (move " + mv + ")");
+			checkTargetSets(gb, attackMod, context + " (move " + mv + ")");
+		}
+		// A CLIMA'14 debate only reads the status of the issue, so the arguments are never evaluated.
+		for (int i=0; i<gb.arguments.size(); i++) {
+			check(gb.arguments.get(i).getEval() == -10, context + ": argument " + i + " evaluated during the debate");
+		}
+		gb.resetGB();
+		checkGrounded(gb, context + " (reset)");
+		checkTargetSets(gb, attackMod, context + " (reset)");
+		checkOverlay(config.agents.get((int) (Math.random() * config.agents.size())), context);
+	}
+
+	/**
+	 * This method plays the moves of the agents' numerical strategy (or random votes, when an agent passes) on a EUMAS'15 configuration,
+	 * and checks the QUAD evaluations and the grounded semantics after every move (as well as the neutral move filter,
+	 * and the values predicted by the what-if queries, before the move).
+	 */
+	private static void checkEUMAS15(Configuration_EUMAS15 config, String context) {
+		Gameboard gb = config.gb;
+		gb.computeArgEvaluations();
+		checkQuad(gb, context + " (initial)");
+		checkRelationLookup(config.gb, config.agents, context);
+		for (int mv=0; mv<40; mv++) {
+			Agent ag = config.agents.get((int) (Math.random() * config.agents.size()));
+			Move move = ag.strategyNumericalEval(gb);
+			if (move == null) {
+				BinaryRelation rel;
+				if (ag.agentGB.supports.isEmpty() || Math.random() < 0.5) {
+					rel = ag.agentGB.attacks.get((int) (Math.random() * ag.agentGB.attacks.size()));
+				} else {
+					rel = ag.agentGB.supports.get((int) (Math.random() * ag.agentGB.supports.size()));
+				}
+				move = new Move(rel, Math.random() < 0.7);
+			}
+			checkNeutralMoveFilter(gb, ag, context + " (move " + mv + ")");
+			String weights = weightsOf(gb);
+			double evalIfPlayed = gb.issueEvalIfPlayed(move.relationOfMove, ag, move.polarity);
+			boolean statusIfPlayed = gb.issueStatusIfPlayed(move.relationOfMove, ag, move.polarity);
+			check(weightsOf(gb).equals(weights), context + " (move " + mv + "): weights after the what-if queries");
+			gb.playMoveOnGB(move.relationOfMove, ag, move.polarity, false);
+			check(Double.compare(gb.getEvalIssue(), evalIfPlayed) == 0, context + " (move " + mv + "): evaluation of the issue predicted by the what-if query");
+			check(gb.getStatusIssue() == statusIfPlayed, context + " (move " + mv + "): status of the issue predicted by the what-if query");
+			checkQuad(gb, context + " (move " + mv + ")");
+			checkGrounded(gb, context + " (move " + mv + ")");
+		}
+		checkOverlay(config.agents.get((int) (Math.random() * config.agents.size())), context);
+	}
+
+	/**
+	 * This method plays random votes on the Gameboard of the agent "ag" (an overlay of a reference Gameboard, see Gameboard.isOverlay)
+	 * after a checkpoint (see Gameboard.checkpoint), and checks its semantics after every vote, then after the rollback of the votes,
+	 * and after a reset of the Gameboard. The votes of a nested checkpoint are rolled back without reading the semantics in-between
+	 * (so their saved state is restored). The relation objects are shared with the reference, whose weights must not change.
+	 */
+	private static void checkOverlay(Agent ag, String context) {
+		Gameboard gb = ag.agentGB;
+		context = context + " (agent " + ag.agentName + ")";
+		check(gb.isOverlay(), context + ": the agent's Gameboard is an overlay");
+		String referenceWeights = referenceWeightsOf(gb);
+		String weights = weightsOf(gb);
+		checkGrounded(gb, context + " (initial)");
+		checkQuadIssue(gb, context + " (initial)");
+		int checkpoint = gb.checkpoint();
+		for (int mv=0; mv<10; mv++) {
+			gb.playMoveOnGB(randomRelation(gb), ag, Math.random() < 0.5, false);
+			checkGrounded(gb, context + " (move " + mv + ")");
+			checkQuadIssue(gb, context + " (move " + mv + ")");
+		}
+		String weightsBeforeNested = weightsOf(gb);
+		int nested = gb.checkpoint();
+		for (int mv=0; mv<5; mv++) {
+			gb.playMoveOnGB(randomRelation(gb), ag, Math.random() < 0.5, false);
+		}
+		gb.rollback(nested);
+		check(weightsOf(gb).equals(weightsBeforeNested), context + ": weights after the rollback of the nested checkpoint");
+		checkGrounded(gb, context + " (nested rollback)");
+		checkQuadIssue(gb, context + " (nested rollback)");
+		gb.rollback(checkpoint);
+		check(weightsOf(gb).equals(weights), context + ": weights after the rollback");
+		checkGrounded(gb, context + " (rollback)");
+		checkQuadIssue(gb, context + " (rollback)");
+		gb.resetGB();
+		for (int i=0; i<gb.attacks.size(); i++) {
+			double weight = gb.getWeight(gb.attacks.get(i));
+			check(weight == 0 || weight == 10000, context + ": weight of attack " + i + " after the reset");
+		}
+		checkGrounded(gb, context + " (reset)");
+		checkQuadIssue(gb, context + " (reset)");
+		check(referenceWeightsOf(gb).equals(referenceWeights), context + ": weights of the reference");
+	}
+
+	/**
+	 * Returns a random attack or support of "gb".
+	 */
+	private static BinaryRelation randomRelation(Gameboard gb) {
+		if (gb.supports.isEmpty() || Math.random() < 0.5) {
+			return gb.attacks.get((int) (Math.random() * gb.attacks.size()));
+		}
+		return gb.supports.get((int) (Math.random() * gb.supports.size()));
+	}
+
+	/**
+	 * Checks the neutral move filter of "gb" (see NeutralMoveFilter): every move of the agent "ag" which it discards
+	 * must leave the evaluation of the issue unchanged (according to the exact what-if query), and the arguments
+	 * which reach the issue must be those found by scanning all the present relations until a fixpoint.
+	 */
+	private static void checkNeutralMoveFilter(Gameboard gb, Agent ag, String context) {
+		NeutralMoveFilter filter = gb.computeNeutralMoveFilter();
+		double issueEval = gb.getEvalIssue();
+		ArrayList<BinaryRelation> relations = new ArrayList<BinaryRelation>(gb.attacks);
+		relations.addAll(gb.supports);
+		for (int i=0; i<relations.size(); i++) {
+			for (int pol=0; pol<2; pol++) {
+				if (gb.isNeutralIfPlayed(filter, relations.get(i), ag, pol == 0)) {
+					check(Double.compare(gb.issueEvalIfPlayed(relations.get(i), ag, pol == 0), issueEval) == 0,
+							context + ": neutral move on the relation " + i);
+				}
+			}
+		}
+		boolean[] reachesIssue = new boolean[gb.arguments.size()];
+		reachesIssue[0] = true;
+		boolean fixpoint = false;
+		while (!fixpoint) {
+			fixpoint = true;
+			for (int i=0; i<relations.size(); i++) {
+				BinaryRelation rel = relations.get(i);
+				if (gb.getWeight(rel) > 0 && reachesIssue[rel.secondArg] && !reachesIssue[rel.firstArg]) {
+					reachesIssue[rel.firstArg] = true;
+					fixpoint = false;
+				}
+			}
+		}
+		for (int i=0; i<reachesIssue.length; i++) {
+			check(filter.reachesIssue(i) == reachesIssue[i], context + ": argument " + i + " reaches the issue");
+		}
+	}
+
+	/**
+	 * This method plays random votes on a EUMAS'15 configuration whose cycles are solved, and checks after every vote that:
+	 * (1) every argument has a value in [0, 1], which is a fixed point of the QUAD function (up to the tolerance of the iteration),
+	 * (2) the evaluations updated after the vote are those of a complete evaluation of the Gameboard,
+	 * (3) the evaluation of the issue is the one predicted by the what-if query before the vote.
+	 */
+	private static void checkIterativeQuad(Configuration_EUMAS15 config, String context) {
+		Gameboard gb = config.gb;
+		for (int mv=0; mv<40; mv++) {
+			Agent ag = config.agents.get((int) (Math.random() * config.agents.size()));
+			BinaryRelation rel;
+			if (ag.agentGB.supports.isEmpty() || Math.random() < 0.5) {
+				rel = ag.agentGB.attacks.get((int) (Math.random() * ag.agentGB.attacks.size()));
+			} else {
+				rel = ag.agentGB.supports.get((int) (Math.random() * ag.agentGB.supports.size()));
+			}
+			boolean polarity = (Math.random() < 0.7);
+			double evalIfPlayed = gb.issueEvalIfPlayed(rel, ag, polarity);
+			gb.playMoveOnGB(rel, ag, polarity, false);
+			double evalIssue = gb.getEvalIssue();
+			check(Math.abs(evalIssue - evalIfPlayed) < 1e-9, context + " (move " + mv + "): evaluation of the issue predicted by the what-if query");
+			double[] evals = new double[gb.arguments.size()];
+			for (int i=0; i<evals.length; i++) {
+				evals[i] = gb.arguments.get(i).getEval();
+			}
+			for (int i=0; i<evals.length; i++) {
+				check(evals[i] >= 0 && evals[i] <= 1, context + " (move " + mv + "): value of argument " + i + " (" + evals[i] + ")");
+				ArrayList<Integer> attackers = new ArrayList<Integer>();
+				ArrayList<Integer> supporters = new ArrayList<Integer>();
+				for (int j=0; j<gb.attacks.size(); j++) {
+					if (gb.attacks.get(j).secondArg == i && gb.attacks.get(j).getWeight() > 0) attackers.add(gb.attacks.get(j).firstArg);
+				}
+				for (int j=0; j<gb.supports.size(); j++) {
+					if (gb.supports.get(j).secondArg == i && gb.supports.get(j).getWeight() > 0) supporters.add(gb.supports.get(j).firstArg);
+				}
+				check(Math.abs(quad(attackers, supporters, evals) - evals[i]) < 1e-6, context + " (move " + mv + "): fixed point at argument " + i);
+			}
+			gb.computeArgEvaluations();
+			for (int i=0; i<evals.length; i++) {
+				check(Math.abs(gb.arguments.get(i).getEval() - evals[i]) < 1e-9, context + " (move " + mv + "): updated value of argument " + i);
+			}
+			check(Math.abs(gb.getEvalIssue() - evalIssue) < 1e-9, context + " (move " + mv + "): updated evaluation of the issue");
+		}
+	}
+
+	/**
+	 * Checks the lookup of the relations of "gb" (see Gameboard.attackPos and Gameboard.supportPos) against a scan of the relations:
+	 * every pair of arguments, and every relation resolved on the Gameboard of every agent, and back.
+	 */
+	private static void checkRelationLookup(Gameboard gb, ArrayList<Agent> agents, String context) {
+		for (int i=0; i<gb.arguments.size(); i++) {
+			for (int j=0; j<gb.arguments.size(); j++) {
+				check(gb.getRelationIndex().findAttack(i, j) == scan(gb.attacks, i, j), context + ": attack (" + i + ", " + j + ")");
+				check(gb.getRelationIndex().findSupport(i, j) == scan(gb.supports, i, j), context + ": support (" + i + ", " + j + ")");
+			}
+		}
+		for (int h=0; h<agents.size(); h++) {
+			Gameboard agentGB = agents.get(h).agentGB;
+			for (int i=0; i<gb.attacks.size(); i++) {
+				Attack att = gb.attacks.get(i);
+				check(agentGB.attackPos(att) == scan(agentGB.attacks, att.firstArg, att.secondArg), context + ": attack " + i + " on the agent's Gameboard");
+			}
+			for (int i=0; i<agentGB.attacks.size(); i++) {
+				Attack att = agentGB.attacks.get(i);
+				check(gb.attackPos(att) == scan(gb.attacks, att.firstArg, att.secondArg), context + ": attack " + i + " of the agent's Gameboard");
+			}
+			for (int i=0; i<gb.supports.size(); i++) {
+				Support supp = gb.supports.get(i);
+				check(agentGB.supportPos(supp) == scan(agentGB.supports, supp.firstArg, supp.secondArg), context + ": support " + i + " on the agent's Gameboard");
+			}
+		}
+	}
+
+	/**
+	 * Checks the impacts of the agents' votes (see Gameboard.getImpact) on the relations of the debate's Gameboard (whose impact tables are computed),
+	 * on the relations of the merged Gameboard (whose impact tables are not computed: the topics of the arguments are counted),
+	 * and on the relations of the agents' Gameboards (see Agent.getImpact).
+	 */
+	private static void checkImpacts(Configuration_CLIMA14 config, String context) {
+		Gameboard merged = Agent.computeMergedWAS(config);
+		for (int a=0; a<config.agents.size(); a++) {
+			Agent ag = config.agents.get(a);
+			for (int i=0; i<config.gb.attacks.size(); i++) {
+				Attack att = config.gb.attacks.get(i);
+				check(config.gb.getImpact(ag, att) == referenceImpact(config.gb, ag, att), context + ": impact on the debate's Gameboard");
+				check(ag.getImpact(att) == referenceImpact(ag.agentGB, ag, att), context + ": impact on the agent's Gameboard");
+			}
+			for (int i=0; i<merged.attacks.size(); i++) {
+				Attack att = merged.attacks.get(i);
+				check(merged.getImpact(ag, att) == referenceImpact(merged, ag, att), context + ": impact on the merged Gameboard");
+			}
+		}
+	}
+
+	/**
+	 * Checks a PairIndex over "numArgs" arguments (a dense matrix up to 128 arguments, a hash table otherwise) against a scan of the pairs,
+	 * with random pairs, some of them repeated.
+	 */
+	private static void checkPairIndex(int numArgs) {
+		int numPairs = 3 * numArgs;
+		int[] first = new int[numPairs];
+		int[] second = new int[numPairs];
+		for (int i=0; i<numPairs; i++) {
+			first[i] = (int) (Math.random() * numArgs);
+			second[i] = (int) (Math.random() * numArgs);
+		}
+		PairIndex index = new PairIndex(numArgs, first, second);
+		for (int n=0; n<10 * numPairs; n++) {
+			int a = (n < numPairs) ? first[n] : (int) (Math.random() * numArgs);
+			int b = (n < numPairs) ? second[n] : (int) (Math.random() * numArgs);
+			int expected = -1;
+			for (int i=0; i<numPairs && expected == -1; i++) {
+				if (first[i] == a && second[i] == b) expected = i;
+			}
+			check(index.get(a, b) == expected, "pair index (" + numArgs + " arguments): pair (" + a + ", " + b + ")");
+		}
+		check(index.get(-1, 0) == -1 && index.get(0, numArgs) == -1, "pair index (" + numArgs + " arguments): pairs out of range");
+	}
+
+	/**
+	 * Returns the position of the first relation (first, second) of "relations", or -1.
+	 */
+	private static int scan(List<? extends BinaryRelation> relations, int first, int second) {
+		for (int i=0; i<relations.size(); i++) {
+			if (relations.get(i).firstArg == first && relations.get(i).secondArg == second) return i;
+		}
+		return -1;
+	}
+
+	/**
+	 * Checks random sets of topics (see TopicSet) among "numTopics" topics (so they span several words), against sets of Integers:
+	 * their contents in increasing order, and the number of the topics of an expertise which belong to the union of two sets.
+	 */
+	private static void checkTopicSets(int numTopics) {
+		for (int h=0; h<100; h++) {
+			TopicSet expertise = Expertise.generateSubsetTopics(0, numTopics, numTopics);
+			TopicSet first = Expertise.generateSubsetTopics(0, numTopics, numTopics);
+			TopicSet second = Expertise.generateSubsetTopics(0, numTopics, numTopics);
+			TreeSet<Integer> firstTopics = toIntegers(first);
+			TreeSet<Integer> secondTopics = toIntegers(second);
+			int common = 0;
+			for (int topic=0; topic<numTopics; topic++) {
+				check(first.contains(topic) == firstTopics.contains(topic), "topic " + topic + " of " + first);
+				if (expertise.contains(topic) && (firstTopics.contains(topic) || secondTopics.contains(topic))) common++;
+			}
+			check(!first.contains(numTopics + 64), "topic " + (numTopics + 64) + " of " + first);
+			check(TopicSet.countCommon(expertise, first, second) == common, "topics of " + expertise + " in " + first + " or " + second);
+		}
+	}
+
+	/**
+	 * Returns the topics of "set" (which must be listed by increasing id, without duplicates).
+	 */
+	private static TreeSet<Integer> toIntegers(TopicSet set) {
+		TreeSet<Integer> topics = new TreeSet<Integer>();
+		for (int i=0; i<set.size(); i++) {
+			check(i == 0 || set.get(i) > set.get(i-1), "order of the topics of " + set);
+			topics.add(set.get(i));
+		}
+		check(topics.size() == set.size(), "size of " + set);
+		return topics;
+	}
+
+	/**
+	 * This method checks the bookkeeping of a TargetSetCache: the hits and the misses, and the eviction of the least recently used configuration.
+	 */
+	private static void checkTargetSetCache() {
+		TargetSetCache cache = new TargetSetCache(2);
+		List<List<Attack>> tsets = new ArrayList<List<Attack>>();
+		check(cache.get(new long[] {1}) == null, "cache: lookup in an empty cache");
+		cache.put(new long[] {1}, tsets);
+		cache.put(new long[] {2}, tsets);
+		check(cache.get(new long[] {1}) == tsets, "cache: lookup of a configuration");
+		cache.put(new long[] {3}, tsets);
+		check(cache.size() == 2, "cache: size after an eviction");
+		check(cache.get(new long[] {2}) == null, "cache: eviction of the least recently used configuration");
+		check(cache.get(new long[] {1}) == tsets && cache.get(new long[] {3}) == tsets, "cache: configurations kept after an eviction");
+		check(cache.getHits() == 3 && cache.getMisses() == 2, "cache: hits and misses");
+	}
+
+	/**
+	 * Checks the grounded extension, the grounded labelling and the status of the issue of "gb" (also as computed by the goal-directed query).
+	 * After a move, the status of the issue is read from the labelling which the Gameboard updates incrementally (component by component).
+	 */
+	private static void checkGrounded(Gameboard gb, String context) {
+		TreeSet<Integer> reference = new TreeSet<Integer>(referenceGrounded(gb));
+		check(reference.equals(new TreeSet<Integer>(gb.computeGrounded())), context + ": grounded extension");
+		GroundedLabelling labelling = GroundedLabelling.compute(gb);
+		for (int i=0; i<gb.arguments.size(); i++) {
+			check(labelling.isIn(i) == reference.contains(i), context + ": grounded label of argument " + i);
+		}
+		check(gb.getStatusIssue() == reference.contains(0), context + ": status of the issue");
+		check(gb.isIssueAccepted() == reference.contains(0), context + ": acceptance of the issue");
+		check(GroundedLabelling.isIssueIn(gb) == reference.contains(0), context + ": goal-directed label of the issue");
+		checkComponents(gb, context);
+	}
+
+	/**
+	 * Checks the decomposition of the (positive) attacks of "gb" into strongly connected components, against the transitive closure
+	 * of the attacks: two arguments are in the same component iff each one reaches the other, every attack between two components
+	 * goes to a later one, and a component is cyclic iff it has several arguments or a self-attack.
+	 * Also checks Gameboard.isAcyclic against the closure of all the relations (whatever their weights).
+	 */
+	private static void checkComponents(Gameboard gb, String context) {
+		int numArgs = gb.arguments.size();
+		ComponentDecomposition scc = ComponentDecomposition.computeAttacks(gb.getRelationIndex(), null, numArgs, null);
+		boolean[][] reaches = new boolean[numArgs][numArgs];
+		boolean[][] reachesAll = new boolean[numArgs][numArgs];
+		for (int j=0; j<gb.attacks.size(); j++) {
+			Attack att = gb.attacks.get(j);
+			if (gb.getWeight(att) > 0) reaches[att.firstArg][att.secondArg] = true;
+			reachesAll[att.firstArg][att.secondArg] = true;
+		}
+		for (int j=0; j<gb.supports.size(); j++) {
+			reachesAll[gb.supports.get(j).firstArg][gb.supports.get(j).secondArg] = true;
+		}
+		for (int k=0; k<numArgs; k++) {
+			for (int i=0; i<numArgs; i++) {
+				for (int j=0; j<numArgs; j++) {
+					if (reaches[i][k] && reaches[k][j]) reaches[i][j] = true;
+					if (reachesAll[i][k] && reachesAll[k][j]) reachesAll[i][j] = true;
+				}
+			}
+		}
+		boolean acyclic = true;
+		for (int i=0; i<numArgs; i++) {
+			if (reachesAll[i][i]) acyclic = false;
+			int size = 0;
+			for (int j=0; j<numArgs; j++) {
+				boolean sameComponent = (i == j) || (reaches[i][j] && reaches[j][i]);
+				check((scc.getComponent(i) == scc.getComponent(j)) == sameComponent, context + ": components of the arguments " + i + " and " + j);
+				if (sameComponent) size++;
+			}
+			check(scc.isCyclic(scc.getComponent(i)) == (size > 1 || reaches[i][i]), context + ": cyclic component of argument " + i);
+		}
+		for (int j=0; j<gb.attacks.size(); j++) {
+			Attack att = gb.attacks.get(j);
+			if (gb.getWeight(att) > 0 && scc.getComponent(att.firstArg) != scc.getComponent(att.secondArg)) {
+				check(scc.getComponent(att.firstArg) < scc.getComponent(att.secondArg), context + ": order of the components of the attack " + j);
+			}
+		}
+		check(gb.isAcyclic() == acyclic, context + ": acyclicity of the Gameboard");
+	}
+
+	/**
+	 * Checks the QUAD evaluations of the arguments of "gb" (after a move, only the evaluations downstream of a relation
+	 * which has appeared or disappeared are updated, when the evaluation of the issue is first read), and those of a QuadEvaluation computed from scratch, which must also be
+	 * those of Gameboard.evaluateArgQUAD.
+	 */
+	private static void checkQuad(Gameboard gb, String context) {
+		double[] reference = referenceEvaluations(gb);
+		double evalIssue = gb.getEvalIssue();
+		if (reference[0] != -10) check(Double.compare(reference[0], evalIssue) == 0, context + ": evaluation of the issue");
+		QuadEvaluation quadEvaluation = QuadEvaluation.compute(gb);
+		for (int i=0; i<reference.length; i++) {
+			check(Double.compare(reference[i], gb.arguments.get(i).getEval()) == 0, context + ": evaluation of argument " + i
+					+ " (" + gb.arguments.get(i).getEval() + " instead of " + reference[i] + ")");
+			check(Double.compare(reference[i], quadEvaluation.getEval(i)) == 0, context + ": topological evaluation of argument " + i);
+			check(quadEvaluation.isEvaluated(i) == (reference[i] != -10), context + ": argument " + i + " evaluated");
+		}
+		// The primitive kernel must give exactly the values of Gameboard.evaluateArgQUAD (on the attackers and supporters, in the order of the relations).
+		for (int i=0; i<reference.length; i++) {
+			if (reference[i] == -10) continue;
+			ArrayList<Argument> attackers = new ArrayList<Argument>();
+			ArrayList<Argument> supporters = new ArrayList<Argument>();
+			for (int j=0; j<gb.attacks.size(); j++) {
+				if (gb.attacks.get(j).secondArg == i && gb.getWeight(gb.attacks.get(j)) > 0) attackers.add(gb.arguments.get(gb.attacks.get(j).firstArg));
+			}
+			for (int j=0; j<gb.supports.size(); j++) {
+				if (gb.supports.get(j).secondArg == i && gb.getWeight(gb.supports.get(j)) > 0) supporters.add(gb.arguments.get(gb.supports.get(j).firstArg));
+			}
+			check(Double.compare(gb.evaluateArgQUAD(gb.arguments.get(i), attackers, supporters), quadEvaluation.getEval(i)) == 0,
+					context + ": kernel evaluation of argument " + i);
+		}
+	}
+
+	/**
+	 * Checks the evaluation of the issue of "gb" (e.g. an overlay, whose arguments' evaluations are not kept in the Argument objects).
+	 */
+	private static void checkQuadIssue(Gameboard gb, String context) {
+		double reference = referenceEvaluations(gb)[0];
+		double evalIssue = gb.getEvalIssue();
+		if (reference != -10) check(Double.compare(reference, evalIssue) == 0, context + ": evaluation of the issue");
+	}
+
+	/**
+	 * Checks the target sets of "gb", whose modifiable attacks are "attackMod".
+	 * The target sets are compared as sets of sets of attacks, and they must be ordered from the smallest to the biggest.
+	 * The search is done over the relevant modifiable attacks only (see TargetSetSearch), while the reference implementation tries them all.
+	 * The search must leave the weights of the attacks unchanged, and the parallel search must give the sequential result.
+	 * After a move, they're usually revised from the status table of the first search (see TargetSetTable), so this also checks the revision.
+	 * The lazy iterator (see Gameboard.targetSetIterator) must return the same target sets, in the same order, before and after they're materialized.
+	 */
+	private static void checkTargetSets(Gameboard gb, ArrayList<Attack> attackMod, String context) {
+		TreeSet<String> computed = new TreeSet<String>();
+		String weights = weightsOf(gb);
+		List<List<Attack>> iterated = iterate(gb.targetSetIterator());
+		List<List<Attack>> targetSets = gb.getTargetSets();
+		check(weightsOf(gb).equals(weights), context + ": weights after the search of the target sets");
+		check(gb.getTargetSets() == targetSets, context + ": target sets kept in the same configuration");
+		check(iterated.equals(targetSets), context + ": target sets of the lazy iterator");
+		check(iterate(gb.targetSetIterator()).equals(targetSets), context + ": target sets of the iterator");
+		ArrayList<ArrayList<Attack>> sequential = new TargetSetSearch(gb, attackMod, null).computeAll();
+		ArrayList<ArrayList<Attack>> parallel = new TargetSetSearch(gb, attackMod, pool).computeAll();
+		check(parallel.equals(sequential), context + ": parallel search of the target sets");
+		for (int i=0; i<targetSets.size(); i++) {
+			computed.add(toKey(targetSets.get(i), attackMod));
+			if (i > 0) check(targetSets.get(i-1).size() <= targetSets.get(i).size(), context + ": order of the target sets");
+		}
+		check(computed.equals(referenceTargetSets(gb, attackMod)), context + ": target sets");
+	}
+
+	/**
+	 * Reference implementation of the impact of a vote of "ag" on the relation "rel" of "gb": the number of the agent's topics
+	 * which are topics of one of the relation's arguments.
+	 */
+	private static int referenceImpact(Gameboard gb, Agent ag, BinaryRelation rel) {
+		int impact = 0;
+		for (int i=0; i<ag.agentExpertise.size(); i++) {
+			int topic = ag.agentExpertise.get(i);
+			if (gb.getArgTopics(rel.firstArg).contains(topic) || gb.getArgTopics(rel.secondArg).contains(topic)) {
+				impact++;
+			}
+		}
+		return impact;
+	}
+
+	/**
+	 * Reference implementation of the grounded extension (the fixpoint computation, scanning all the attacks).
+	 */
+	private static ArrayList<Integer> referenceGrounded(Gameboard gb) {
+		ArrayList<Integer> grounded = new ArrayList<Integer>();
+		ArrayList<Integer> possiblyGrounded = new ArrayList<Integer>();
+		for (int i=0; i<gb.arguments.size(); i++) {
+			possiblyGrounded.add(i);
+		}
+		boolean fixpoint = false;
+		ArrayList<Integer> newlyGrounded = new ArrayList<Integer>();
+		while (!fixpoint) {
+			fixpoint = true;
+			newlyGrounded.clear();
+			// An argument is IN if none of its (positive) attackers may be IN.
+			for (int i=0; i<possiblyGrounded.size(); i++) {
+				int currArg = possiblyGrounded.get(i);
+				if (grounded.contains(currArg)) continue;
+				boolean isAttacked = false;
+				for (int j=0; j<gb.attacks.size(); j++) {
+					Attack currAtt = gb.attacks.get(j);
+					if (currAtt.secondArg == currArg && gb.getWeight(currAtt) > 0 && possiblyGrounded.contains(currAtt.firstArg)) isAttacked = true;
+				}
+				if (!isAttacked) {
+					grounded.add(currArg);
+					newlyGrounded.add(currArg);
+					fixpoint = false;
+				}
+			}
+			// The arguments attacked by an IN argument are OUT.
+			for (int i=0; i<newlyGrounded.size(); i++) {
+				for (int j=0; j<gb.attacks.size(); j++) {
+					Attack currAtt = gb.attacks.get(j);
+					if (currAtt.firstArg == newlyGrounded.get(i) && gb.getWeight(currAtt) > 0) possiblyGrounded.remove((Integer) currAtt.secondArg);
+				}
+			}
+		}
+		return grounded;
+	}
+
+	/**
+	 * Returns the weights of the relations of "gb" (see Gameboard.getWeight), e.g. "0.0,1.0,...".
+	 */
+	private static String weightsOf(Gameboard gb) {
+		StringBuilder weights = new StringBuilder();
+		for (int i=0; i<gb.attacks.size(); i++) {
+			weights.append(gb.getWeight(gb.attacks.get(i))).append(',');
+		}
+		for (int i=0; i<gb.supports.size(); i++) {
+			weights.append(gb.getWeight(gb.supports.get(i))).append(',');
+		}
+		return weights.toString();
+	}
+
+	/**
+	 * Returns the weights of the relation objects of "gb": if "gb" is an overlay, then they're the weights of its reference.
+	 */
+	private static String referenceWeightsOf(Gameboard gb) {
+		StringBuilder weights = new StringBuilder();
+		for (int i=0; i<gb.attacks.size(); i++) {
+			weights.append(gb.attacks.get(i).getWeight()).append(',');
+		}
+		for (int i=0; i<gb.supports.size(); i++) {
+			weights.append(gb.supports.get(i).getWeight()).append(',');
+		}
+		return weights.toString();
+	}
+
+	/**
+	 * Reference implementation of the QUAD evaluations: an argument is evaluated once all its (positive) attackers and supporters are evaluated.
+	 * The arguments which are never evaluated (those in, or downstream of, a cycle) keep the value -10.
+	 */
+	private static double[] referenceEvaluations(Gameboard gb) {
+		int numArgs = gb.arguments.size();
+		double[] evals = new double[numArgs];
+		for (int i=0; i<numArgs; i++) {
+			evals[i] = -10;
+		}
+		boolean fixpoint = false;
+		while (!fixpoint) {
+			fixpoint = true;
+			for (int i=0; i<numArgs; i++) {
+				if (evals[i] != -10) continue;
+				ArrayList<Integer> attackers = new ArrayList<Integer>();
+				ArrayList<Integer> supporters = new ArrayList<Integer>();
+				for (int j=0; j<gb.attacks.size(); j++) {
+					if (gb.attacks.get(j).secondArg == i && gb.getWeight(gb.attacks.get(j)) > 0) attackers.add(gb.attacks.get(j).firstArg);
+				}
+				for (int j=0; j<gb.supports.size(); j++) {
+					if (gb.supports.get(j).secondArg == i && gb.getWeight(gb.supports.get(j)) > 0) supporters.add(gb.supports.get(j).firstArg);
+				}
+				boolean canEvaluate = true;
+				for (int j=0; j<attackers.size(); j++) {
+					if (evals[attackers.get(j)] == -10) canEvaluate = false;
+				}
+				for (int j=0; j<supporters.size(); j++) {
+					if (evals[supporters.get(j)] == -10) canEvaluate = false;
+				}
+				if (canEvaluate) {
+					evals[i] = quad(attackers, supporters, evals);
+					fixpoint = false;
+				}
+			}
+		}
+		return evals;
+	}
+
+	/**
+	 * The QUAD function (base score 0.5), given the evaluations of the attackers and of the supporters of an argument.
+	 */
+	private static double quad(ArrayList<Integer> attackers, ArrayList<Integer> supporters, double[] evals) {
+		double vBase = 0.5;
+		double vAtt = -10;
+		double vSupp = -10;
+		boolean isNil = true;
+		for (int j=0; j<attackers.size(); j++) {
+			if (evals[attackers.get(j)] != 0.0) isNil = false;
+		}
+		if (!isNil) {
+			vAtt = vBase;
+			for (int j=0; j<attackers.size(); j++) {
+				vAtt = vAtt - vAtt * evals[attackers.get(j)];
+			}
+		}
+		isNil = true;
+		for (int j=0; j<supporters.size(); j++) {
+			if (evals[supporters.get(j)] != 0.0) isNil = false;
+		}
+		if (!isNil) {
+			vSupp = vBase;
+			for (int j=0; j<supporters.size(); j++) {
+				vSupp = vSupp + (1 - vSupp) * evals[supporters.get(j)];
+			}
+		}
+		if (vAtt == -10 && vSupp != -10) return vSupp;
+		if (vAtt != -10 && vSupp == -10) return vAtt;
+		if (vAtt == -10 && vSupp == -10) return vBase;
+		return (vAtt + vSupp) / 2;
+	}
+
+	/**
+	 * Reference implementation of the target sets: all the subsets of "attackMod" are tried (by increasing bitmask),
+	 * and those which change the status of the issue, without containing a smaller target set, are kept.
+	 * The weights of the attacks are restored after every try.
+	 */
+	private static TreeSet<String> referenceTargetSets(Gameboard gb, ArrayList<Attack> attackMod) {
+		boolean status = referenceGrounded(gb).contains(0);
+		ArrayList<Long> found = new ArrayList<Long>();
+		TreeSet<String> targetSets = new TreeSet<String>();
+		for (long mask=1; mask < (1L << attackMod.size()); mask++) {
+			boolean isMinimal = true;
+			for (int i=0; i<found.size(); i++) {
+				if ((mask & found.get(i)) == found.get(i)) isMinimal = false;
+			}
+			if (!isMinimal) continue;
+			ArrayList<Attack> subset = new ArrayList<Attack>();
+			for (int i=0; i<attackMod.size(); i++) {
+				if (((mask >> i) & 1) == 1) subset.add(attackMod.get(i));
+			}
+			for (int i=0; i<subset.size(); i++) {
+				subset.get(i).changeWeightSign();
+			}
+			if (status != referenceGrounded(gb).contains(0)) {
+				found.add(mask);
+				targetSets.add(toKey(subset, attackMod));
+			}
+			for (int i=0; i<subset.size(); i++) {
+				subset.get(i).changeWeightSign();
+			}
+		}
+		return targetSets;
+	}
+
+	/**
+	 * Returns a key identifying the set of attacks "attacks" (the attacks are listed in the order of "attackMod").
+	 */
+	private static String toKey(List<Attack> attacks, ArrayList<Attack> attackMod) {
+		StringBuilder key = new StringBuilder();
+		for (int i=0; i<attackMod.size(); i++) {
+			Attack currAtt = attackMod.get(i);
+			for (int j=0; j<attacks.size(); j++) {
+				if (attacks.get(j).firstArg == currAtt.firstArg && attacks.get(j).secondArg == currAtt.secondArg) {
+					key.append("(" + currAtt.firstArg + "," + currAtt.secondArg + ")");
+					break;
+				}
+			}
+		}
+		return key.toString();
+	}
+
+	/**
+	 * Returns the target sets returned by the iterator "tsets".
+	 */
+	private static List<List<Attack>> iterate(Iterator<List<Attack>> tsets) {
+		ArrayList<List<Attack>> targetSets = new ArrayList<List<Attack>>();
+		while (tsets.hasNext()) {
+			targetSets.add(tsets.next());
+		}
+		return targetSets;
+	}
+
+	/**
+	 * Counts (and prints) a failed check.
+	 */
+	private static void check(boolean condition, String message) {
+		if (!condition) {
+			numberOfFailures++;
+			System.err.println("FAILED: " + message);
+		}
+	}
+
+}
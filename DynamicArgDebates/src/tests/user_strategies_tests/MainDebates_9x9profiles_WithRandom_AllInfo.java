@@ -147,7 +147,6 @@ public class MainDebates_9x9profiles_WithRandom_AllInfo {
 				Attack move = null;
 				Agent currAg;
 				////////////////////////
-				gb.computeTargetSets();
 //				gb.printTargetSets();
 				////////////////////////
 
@@ -187,7 +186,6 @@ public class MainDebates_9x9profiles_WithRandom_AllInfo {
 						// The agent plays the move he has chosen on the Gameboard (the fourth parameter is "verbose").
 						gb.playMoveOnGB(move, currAg, true, false);
 						numRoundsNoPass++;
-						gb.computeTargetSets();
 						numPassMoves = 0;
 					}
 					// Prepare for the next loop.		
@@ -224,15 +222,15 @@ public class MainDebates_9x9profiles_WithRandom_AllInfo {
 					if (currAg.team.equals("PRO")) expPRO[i][j] += currAg.agentExpertise.size();
 					else expCON[i][j] += currAg.agentExpertise.size();
 				}
-				if (merged.statusIssue) {
+				if (merged.getStatusIssue()) {
 //					System.out.println("In the merged system, the winner is PRO.");
 					issueInMerged[i][j] = true;
 				} else {
 //					System.out.println("In the merged system, the winner is CON.");
 					issueInMerged[i][j] = false;
 				}
-				if ( (config.numPRO >= config.numCON) && merged.statusIssue
-						|| (config.numCON >= config.numPRO) && !merged.statusIssue) {
+				if ( (config.numPRO >= config.numCON) && merged.getStatusIssue()
+						|| (config.numCON >= config.numPRO) && !merged.getStatusIssue()) {
 					System.out.println("The debate is ideal.");
 					isIdeal[i][j] = true;
 				} else {
@@ -240,7 +238,7 @@ public class MainDebates_9x9profiles_WithRandom_AllInfo {
 					isIdeal[i][j] = false;
 				}
 				strategyProfile[i][j] = strategyPRO + "vs" + strategyCON;
-				if (gb.statusIssue) {
+				if (gb.getStatusIssue()) {
 //					System.out.println("In the debate, the winner is PRO.");
 					issueInDebate[i][j] = true;
 				} else {
@@ -253,8 +251,7 @@ public class MainDebates_9x9profiles_WithRandom_AllInfo {
 				numberOfRoundsNoPass[i][j] = numRoundsNoPass;
 				
 				gb.resetGB();
-				gb.computeTargetSets();
-				initGBNumTSets[i][j] = gb.targetSets.size();
+				initGBNumTSets[i][j] = gb.getTargetSets().size();
 				
 				// ***************************************************
 				// ***** THE RESULTS COLLECTION PROCEDURE (END). *****
@@ -3,8 +3,9 @@ package tests.user_strategies_tests;
 import java.io.FileNotFoundException;
 import java.io.PrintWriter;
 import java.io.UnsupportedEncodingException;
-import java.util.ArrayList;
+import java.util.List;
 
+import debateComponents.Attack;
 import debateComponents.Configuration;
 import debateComponents.Configuration_CLIMA14;
 import debateComponents.Gameboard;
@@ -48,14 +49,15 @@ public class Test_TargetSets_B {
 			Gameboard gb = config.gb;
 			gb.printGB(null);
 			gb.printTargetSets(null);
-			numTSets += gb.targetSets.size();
-			for (int j=0; j<gb.targetSets.size(); j++) {
-				sizeTSets += gb.targetSets.get(j).size();
+			List<List<Attack>> tsets = gb.getTargetSets();
+			numTSets += tsets.size();
+			for (int j=0; j<tsets.size(); j++) {
+				sizeTSets += tsets.get(j).size();
 			}
 			
 			//gb.printTargetSets(config, writer_tsets);
 			
-			if (gb.statusIssue) positiveInitIssues++;
+			if (gb.getStatusIssue()) positiveInitIssues++;
 			else negativeInitIssues++;
 			
 //			System.out.println();